@@ -0,0 +1,80 @@
+package com.omnipulse.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON reports (written with {@code -rf json}, e.g. by the {@code run-benchmarks} profile)
+ * from different commits and exits with status 1 when a benchmark regressed by more than the threshold.
+ * <pre>
+ * java -cp target/benchmarks.jar com.omnipulse.benchmarks.BenchmarkReportDiff baseline.json jmh-result.json [10]
+ * </pre>
+ */
+public final class BenchmarkReportDiff {
+
+	private BenchmarkReportDiff() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: BenchmarkReportDiff <baseline.json> <current.json> [threshold-percent]");
+			System.exit(2);
+		}
+		double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+		Map<String, JsonNode> baseline = read(Path.of(args[0]));
+		Map<String, JsonNode> current = read(Path.of(args[1]));
+
+		int regressions = 0;
+		System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+		for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+			JsonNode before = baseline.get(entry.getKey());
+			JsonNode after = entry.getValue();
+			double afterScore = after.at("/primaryMetric/score").asDouble();
+			String unit = after.at("/primaryMetric/scoreUnit").asText();
+			if (before == null) {
+				System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", afterScore, "new", unit);
+				continue;
+			}
+
+			double beforeScore = before.at("/primaryMetric/score").asDouble();
+			double change = (afterScore - beforeScore) / beforeScore * 100;
+			// Throughput modes are better when higher; time modes when lower
+			boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+			boolean regressed = higherIsBetter ? change < -threshold : change > threshold;
+			if (regressed) {
+				regressions++;
+			}
+			System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), beforeScore, afterScore, change,
+					unit, regressed ? "  REGRESSION" : "");
+		}
+
+		System.out.printf("%d regression(s) beyond %.1f%%%n", regressions, threshold);
+		System.exit(regressions > 0 ? 1 : 0);
+	}
+
+	private static Map<String, JsonNode> read(Path report) throws IOException {
+		Map<String, JsonNode> results = new LinkedHashMap<>();
+		for (JsonNode result : new ObjectMapper().readTree(report.toFile())) {
+			results.put(key(result), result);
+		}
+		return results;
+	}
+
+	private static String key(JsonNode result) {
+		StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+				.replace("com.omnipulse.benchmarks.", ""));
+		Map<String, String> params = new TreeMap<>();
+		for (Map.Entry<String, JsonNode> param : result.path("params").properties()) {
+			params.put(param.getKey(), param.getValue().asText());
+		}
+		params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+		return key.toString();
+	}
+}
@@ -0,0 +1,43 @@
+package com.omnipulse.benchmarks.context;
+
+import com.omnipulse.common.util.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Correlation ID generation for requests that arrive without {@code X-Correlation-ID}:
+ * the original {@code UUID.randomUUID()} (SecureRandom) path against the UUIDv7 generator.
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CorrelationIdBenchmark {
+
+	@Benchmark
+	public String randomUuid() {
+		return UUID.randomUUID().toString();
+	}
+
+	@Benchmark
+	public String uuidV7() {
+		return UuidV7.next().toString();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String randomUuidContended() {
+		return UUID.randomUUID().toString();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String uuidV7Contended() {
+		return UuidV7.next().toString();
+	}
+}
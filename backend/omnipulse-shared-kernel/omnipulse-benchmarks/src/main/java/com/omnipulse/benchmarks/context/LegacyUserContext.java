@@ -0,0 +1,64 @@
+package com.omnipulse.benchmarks.context;
+
+import lombok.experimental.UtilityClass;
+import org.slf4j.MDC;
+
+/**
+ * Copy of the original three-ThreadLocal {@code UserContext}, kept only as a benchmark baseline.
+ */
+@UtilityClass
+class LegacyUserContext {
+
+	private static final ThreadLocal<String> CURRENT_USER = new ThreadLocal<>();
+	private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
+	private static final ThreadLocal<String> CORRELATION_ID = new ThreadLocal<>();
+
+	static void setUserId(String userId) {
+		if (userId == null || userId.isEmpty()) {
+			CURRENT_USER.remove();
+			MDC.remove("userId");
+		} else {
+			CURRENT_USER.set(userId);
+			MDC.put("userId", userId);
+		}
+	}
+
+	static String getUserId() {
+		return CURRENT_USER.get();
+	}
+
+	static void setTenantId(String tenantId) {
+		if (tenantId == null) {
+			CURRENT_TENANT.remove();
+			MDC.remove("tenantId");
+		} else {
+			CURRENT_TENANT.set(tenantId);
+			MDC.put("tenantId", tenantId);
+		}
+	}
+
+	static String getTenantId() {
+		return CURRENT_TENANT.get();
+	}
+
+	static void setCorrelationId(String correlationId) {
+		if (correlationId == null) {
+			CORRELATION_ID.remove();
+			MDC.remove("correlationId");
+		} else {
+			CORRELATION_ID.set(correlationId);
+			MDC.put("correlationId", correlationId);
+		}
+	}
+
+	static String getCorrelationId() {
+		return CORRELATION_ID.get();
+	}
+
+	static void clear() {
+		CURRENT_USER.remove();
+		CURRENT_TENANT.remove();
+		CORRELATION_ID.remove();
+		MDC.clear();
+	}
+}
@@ -0,0 +1,80 @@
+package com.omnipulse.benchmarks.context;
+
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request lifecycle of the caller context: bind, read the three values a few times, clear.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserContextBenchmark {
+
+	private static final String USER = "8f14e45f-ceea-467f-a8f6-1b2c3d4e5f60";
+	private static final String TENANT = "tenant-42";
+	private static final String CORRELATION = "0192a7c4-5b1e-7c3d-9e8f-0a1b2c3d4e5f";
+
+	@Param({"4"})
+	private int reads;
+
+	@Benchmark
+	public void legacyThreadLocals(Blackhole bh) {
+		LegacyUserContext.setCorrelationId(CORRELATION);
+		LegacyUserContext.setUserId(USER);
+		LegacyUserContext.setTenantId(TENANT);
+		try {
+			for (int i = 0; i < reads; i++) {
+				bh.consume(LegacyUserContext.getUserId());
+				bh.consume(LegacyUserContext.getTenantId());
+				bh.consume(LegacyUserContext.getCorrelationId());
+			}
+		} finally {
+			LegacyUserContext.clear();
+		}
+	}
+
+	@Benchmark
+	public void requestContextSlot(Blackhole bh) {
+		UserContext.set(RequestContext.of(USER, TENANT, CORRELATION));
+		try {
+			for (int i = 0; i < reads; i++) {
+				bh.consume(UserContext.getUserId());
+				bh.consume(UserContext.getTenantId());
+				bh.consume(UserContext.getCorrelationId());
+			}
+		} finally {
+			UserContext.clear();
+		}
+	}
+
+	@Benchmark
+	public void requestContextRunWith(Blackhole bh) {
+		UserContext.runWith(RequestContext.of(USER, TENANT, CORRELATION), () -> {
+			for (int i = 0; i < reads; i++) {
+				bh.consume(UserContext.getUserId());
+				bh.consume(UserContext.getTenantId());
+				bh.consume(UserContext.getCorrelationId());
+			}
+		});
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public void legacyThreadLocalsContended(Blackhole bh) {
+		legacyThreadLocals(bh);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public void requestContextSlotContended(Blackhole bh) {
+		requestContextSlot(bh);
+	}
+}
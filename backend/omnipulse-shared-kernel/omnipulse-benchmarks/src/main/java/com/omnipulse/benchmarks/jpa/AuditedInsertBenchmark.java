@@ -0,0 +1,126 @@
+package com.omnipulse.benchmarks.jpa;
+
+import com.omnipulse.common.util.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Inserts one million rows shaped like an audited {@code BaseEntity} into a file-backed H2 table, with random v4
+ * ids (the previous generator) against UUIDv7 ids, one statement at a time and in JDBC batches. Random keys hit
+ * a different primary key leaf on every insert; time-ordered keys append to the right edge.
+ * <p>
+ * The on-disk size of the table and its primary key is printed after each run. H2's copy-on-write store
+ * rewrites every touched page, so unlike PostgreSQL or MySQL it shows little bloat from random keys, and with
+ * no network round trip embedded H2 gains nothing from batching: both effects are lower bounds here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 2)
+@Fork(1)
+public class AuditedInsertBenchmark {
+
+	private static final int ROWS = 1_000_000;
+	private static final int COMMIT_EVERY = 1_000;
+
+	private static final String INSERT = """
+			INSERT INTO audited_row (id, created_at, created_by, updated_at, updated_by, deleted_at, payload)
+			VALUES (?, ?, ?, ?, ?, ?, ?)""";
+
+	@Param({"v4", "v7"})
+	public String idVersion;
+
+	@Param({"1", "50"})
+	public int batchSize;
+
+	private Path directory;
+	private Connection connection;
+
+	@Setup(Level.Iteration)
+	public void setUp() throws IOException, SQLException {
+		directory = Files.createTempDirectory("audited-insert");
+		connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("db"));
+		connection.setAutoCommit(false);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("""
+					CREATE TABLE audited_row (
+					    id UUID PRIMARY KEY,
+					    created_at TIMESTAMP(6) NOT NULL,
+					    created_by VARCHAR(100) NOT NULL,
+					    updated_at TIMESTAMP(6) NOT NULL,
+					    updated_by VARCHAR(100) NOT NULL,
+					    deleted_at TIMESTAMP(6),
+					    payload VARCHAR(64))""");
+		}
+		connection.commit();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() throws IOException, SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CHECKPOINT SYNC");
+			try (ResultSet resultSet = statement.executeQuery("SELECT DISK_SPACE_USED('AUDITED_ROW')")) {
+				resultSet.next();
+				System.out.printf("%n[%s, batch %d] table + primary key on disk: %.1f MiB%n",
+						idVersion, batchSize, resultSet.getLong(1) / (1024.0 * 1024.0));
+			}
+			statement.execute("SHUTDOWN");
+		}
+		connection.close();
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Benchmark
+	public int insert() throws SQLException {
+		boolean v7 = "v7".equals(idVersion);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+			for (int i = 1; i <= ROWS; i++) {
+				statement.setObject(1, v7 ? UuidV7.next() : UUID.randomUUID());
+				statement.setTimestamp(2, now);
+				statement.setString(3, "importer");
+				statement.setTimestamp(4, now);
+				statement.setString(5, "importer");
+				statement.setTimestamp(6, null);
+				statement.setString(7, "payload-" + i);
+				if (batchSize == 1) {
+					statement.executeUpdate();
+				} else {
+					statement.addBatch();
+					if (i % batchSize == 0) {
+						statement.executeBatch();
+					}
+				}
+				if (i % COMMIT_EVERY == 0) {
+					if (batchSize > 1) {
+						statement.executeBatch();
+					}
+					connection.commit();
+				}
+			}
+			statement.executeBatch();
+			connection.commit();
+		}
+		return ROWS;
+	}
+}
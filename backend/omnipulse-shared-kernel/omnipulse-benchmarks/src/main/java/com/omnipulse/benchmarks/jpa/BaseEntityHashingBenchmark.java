@@ -0,0 +1,81 @@
+package com.omnipulse.benchmarks.jpa;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BaseEntity#hashCode()} is constant per entity class (safe across the transient to persistent transition),
+ * so every entity of one type lands in the same {@link HashSet} bucket. This measures what that costs for
+ * collection sizes seen in services, against keying a map by id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaseEntityHashingBenchmark {
+
+	@Param({"16", "256", "4096"})
+	public int size;
+
+	private List<SampleEntity> entities;
+	private Set<SampleEntity> entitySet;
+	private Map<UUID, SampleEntity> entitiesById;
+	private SampleEntity present;
+	private SampleEntity absent;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		entities = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			entities.add(new SampleEntity(UUID.randomUUID()));
+		}
+		entitySet = new HashSet<>(entities);
+		entitiesById = new HashMap<>();
+		entities.forEach(entity -> entitiesById.put(entity.getId(), entity));
+		present = new SampleEntity(entities.get(size / 2).getId());
+		absent = new SampleEntity(UUID.randomUUID());
+	}
+
+	@Benchmark
+	public boolean hashSetContainsPresent() {
+		return entitySet.contains(present);
+	}
+
+	@Benchmark
+	public boolean hashSetContainsAbsent() {
+		return entitySet.contains(absent);
+	}
+
+	@Benchmark
+	public Set<SampleEntity> hashSetBuild() {
+		return new HashSet<>(entities);
+	}
+
+	@Benchmark
+	public boolean idMapContainsPresent() {
+		return entitiesById.containsKey(present.getId());
+	}
+
+	@Benchmark
+	public boolean equalsSameId() {
+		return present.equals(entities.get(size / 2));
+	}
+
+	static class SampleEntity extends BaseEntity {
+
+		SampleEntity(UUID id) {
+			setId(id);
+		}
+	}
+}
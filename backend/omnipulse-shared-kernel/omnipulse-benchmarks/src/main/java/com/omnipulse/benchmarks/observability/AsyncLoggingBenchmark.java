@@ -0,0 +1,94 @@
+package com.omnipulse.benchmarks.observability;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.util.Duration;
+import com.omnipulse.observability.logging.DuplicateExceptionFilter;
+import com.omnipulse.observability.logging.LevelAwareAsyncAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-thread cost of logging a burst of ERRORs with a stack trace through the production JSON encoder, written
+ * to a discarding stream: {@code sync} encodes on the caller, {@code async} hands off to
+ * {@link LevelAwareAsyncAppender} and {@code async-dedup} adds {@link DuplicateExceptionFilter}, as during a spike of
+ * one repeated failure. Bursts fit in the ring buffer, which is drained between iterations; a producer that
+ * outpaces the worker for longer is throttled to the encoder's speed by the append timeout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class AsyncLoggingBenchmark {
+
+	@Param({"sync", "async", "async-dedup"})
+	public String pipeline;
+
+	private static final int BURST = 1_000;
+
+	private LoggerContext loggerContext;
+	private LevelAwareAsyncAppender async;
+	private Logger logger;
+	private IllegalStateException failure;
+
+	@Setup
+	public void setUp() {
+		loggerContext = new LoggerContext();
+
+		LogstashEncoder encoder = new LogstashEncoder();
+		encoder.setContext(loggerContext);
+		encoder.start();
+		OutputStreamAppender<ILoggingEvent> json = new OutputStreamAppender<>();
+		json.setContext(loggerContext);
+		json.setEncoder(encoder);
+		json.setOutputStream(OutputStream.nullOutputStream());
+		json.start();
+
+		Appender<ILoggingEvent> root = json;
+		if (pipeline.startsWith("async")) {
+			async = new LevelAwareAsyncAppender();
+			async.setContext(loggerContext);
+			async.setAppendTimeout(Duration.buildByMilliseconds(50));
+			async.addAppender(json);
+			async.start();
+			root = async;
+		}
+		if (pipeline.endsWith("dedup")) {
+			DuplicateExceptionFilter filter = new DuplicateExceptionFilter();
+			filter.start();
+			loggerContext.addTurboFilter(filter);
+		}
+
+		logger = loggerContext.getLogger("benchmark");
+		logger.addAppender(root);
+		failure = new IllegalStateException("downstream unavailable");
+	}
+
+	@TearDown(Level.Iteration)
+	public void drain() throws InterruptedException {
+		while (async != null && async.remainingCapacity() < async.getRingBufferSize()) {
+			Thread.sleep(1);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		loggerContext.stop();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BURST)
+	public void logErrorBurst() {
+		for (int i = 0; i < BURST; i++) {
+			logger.error("Exception in {}() with cause = '{}'", "com.omnipulse.Service.call", "NULL", failure);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.omnipulse.benchmarks.observability;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.AppenderBase;
+import com.omnipulse.common.exception.ExceptionFingerprints;
+import com.omnipulse.observability.ObservabilityProperties;
+import com.omnipulse.observability.aspect.LoggingAspect;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code @Service} failing the same way on every call, as when a downstream is down, through
+ * {@link LoggingAspect} with an appender that renders each stack trace like the JSON encoder does.
+ * {@code every-call} uses a zero fingerprint window, which logs the trace each time as before;
+ * {@code fingerprinted} uses the default one-minute window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionLoggingBenchmark {
+
+	@Param({"every-call", "fingerprinted"})
+	public String mode;
+
+	private FailingService advised;
+
+	@Setup
+	public void setUp() {
+		Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+		aspectLogger.setAdditive(false);
+		TraceRenderingSink sink = new TraceRenderingSink();
+		sink.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+		sink.start();
+		aspectLogger.detachAndStopAllAppenders();
+		aspectLogger.addAppender(sink);
+
+		Duration window = "every-call".equals(mode) ? Duration.ZERO : Duration.ofMinutes(1);
+		AspectJProxyFactory factory = new AspectJProxyFactory(new FailingService());
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new LoggingAspect(new ObservabilityProperties(), new ExceptionFingerprints(window, 5, 200)));
+		advised = factory.getProxy();
+	}
+
+	@Benchmark
+	public Object failingCall() {
+		try {
+			return advised.call();
+		} catch (IllegalStateException e) {
+			return e;
+		}
+	}
+
+	/** Renders the message and, when present, the full stack trace, without any I/O. */
+	static class TraceRenderingSink extends AppenderBase<ILoggingEvent> {
+
+		private int length;
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			length += event.getFormattedMessage().length();
+			IThrowableProxy throwable = event.getThrowableProxy();
+			if (throwable != null) {
+				length += ThrowableProxyUtil.asString(throwable).length();
+			}
+		}
+	}
+
+	@Service
+	public static class FailingService {
+
+		public Object call() {
+			throw new IllegalStateException("downstream unavailable");
+		}
+	}
+}
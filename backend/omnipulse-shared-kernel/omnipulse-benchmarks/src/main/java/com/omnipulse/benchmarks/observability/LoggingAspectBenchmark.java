@@ -0,0 +1,91 @@
+package com.omnipulse.benchmarks.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.omnipulse.common.exception.ExceptionFingerprints;
+import com.omnipulse.observability.ObservabilityProperties;
+import com.omnipulse.observability.aspect.LoggingAspect;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link LoggingAspect} around an empty {@code @Service} method, per logging mode:
+ * {@code off} (DEBUG disabled, the production default), {@code sampled} (DEBUG on, 1% of calls) and
+ * {@code full} (DEBUG on, every call formatted by an in-memory appender). {@code direct} is the un-proxied call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+	@Param({"off", "sampled", "full"})
+	private String mode;
+
+	private EmptyService direct;
+	private EmptyService advised;
+	private final UUID id = UUID.randomUUID();
+	private final List<String> payload = List.of("a", "b", "c");
+
+	@Setup
+	public void setUp() {
+		ObservabilityProperties properties = new ObservabilityProperties();
+		double rate = "sampled".equals(mode) ? 0.01 : 1.0;
+		properties.getLogging().setServiceSampleRate(rate);
+
+		Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+		aspectLogger.setLevel("off".equals(mode) ? Level.INFO : Level.DEBUG);
+		aspectLogger.setAdditive(false);
+		FormattingSink sink = new FormattingSink();
+		sink.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+		sink.start();
+		aspectLogger.detachAndStopAllAppenders();
+		aspectLogger.addAppender(sink);
+
+		direct = new EmptyService();
+		AspectJProxyFactory factory = new AspectJProxyFactory(direct);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new LoggingAspect(properties, new ExceptionFingerprints()));
+		advised = factory.getProxy();
+	}
+
+	@Benchmark
+	public Object direct() {
+		return direct.find(id, payload);
+	}
+
+	@Benchmark
+	public Object advised() {
+		return advised.find(id, payload);
+	}
+
+	/** Formats each event like a real encoder would, without any I/O. */
+	static class FormattingSink extends AppenderBase<ILoggingEvent> {
+
+		private int length;
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			length += event.getFormattedMessage().length();
+		}
+	}
+
+	@Service
+	public static class EmptyService {
+
+		public Object find(UUID id, List<String> filter) {
+			return id;
+		}
+	}
+}
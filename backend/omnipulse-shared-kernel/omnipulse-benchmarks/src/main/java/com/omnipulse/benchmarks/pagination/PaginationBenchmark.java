@@ -0,0 +1,86 @@
+package com.omnipulse.benchmarks.pagination;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of fetching one 100-row page at increasing depth of a one million row tenant:
+ * {@code Page} (offset, with and without its {@code COUNT(*)}) against keyset seek from a cursor.
+ * Offset pages grow linearly with depth; seek pages stay flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationBenchmark {
+
+	private static final int ROWS = 1_000_000;
+	private static final int PAGE_SIZE = 100;
+
+	@Param({"0", "100", "1000", "9999"})
+	public int page;
+
+	private TimelineTable table;
+	private TimelineTable.Cursor cursor;
+	private PreparedStatement offsetPage;
+	private PreparedStatement count;
+	private PreparedStatement seekPage;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		table = TimelineTable.create("pagination", ROWS);
+		cursor = page == 0 ? null : table.cursorBefore(page * PAGE_SIZE);
+		offsetPage = table.connection.prepareStatement(TimelineTable.OFFSET_PAGE);
+		count = table.connection.prepareStatement(TimelineTable.COUNT);
+		seekPage = table.connection.prepareStatement(page == 0 ? TimelineTable.FIRST_PAGE : TimelineTable.SEEK_PAGE);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		table.close();
+	}
+
+	@Benchmark
+	public TimelineTable.Slice offset() throws SQLException {
+		offsetPage.setString(1, TimelineTable.TENANT);
+		offsetPage.setInt(2, page * PAGE_SIZE);
+		offsetPage.setInt(3, PAGE_SIZE);
+		try (ResultSet resultSet = offsetPage.executeQuery()) {
+			return TimelineTable.read(resultSet);
+		}
+	}
+
+	@Benchmark
+	public void offsetWithCount(Blackhole blackhole) throws SQLException {
+		blackhole.consume(offset());
+		count.setString(1, TimelineTable.TENANT);
+		try (ResultSet resultSet = count.executeQuery()) {
+			resultSet.next();
+			blackhole.consume(resultSet.getLong(1));
+		}
+	}
+
+	@Benchmark
+	public TimelineTable.Slice seek() throws SQLException {
+		seekPage.setString(1, TimelineTable.TENANT);
+		if (cursor == null) {
+			seekPage.setInt(2, PAGE_SIZE);
+		} else {
+			seekPage.setTimestamp(2, cursor.createdAt());
+			seekPage.setTimestamp(3, cursor.createdAt());
+			seekPage.setTimestamp(4, cursor.createdAt());
+			seekPage.setObject(5, cursor.id());
+			seekPage.setInt(6, PAGE_SIZE);
+		}
+		try (ResultSet resultSet = seekPage.executeQuery()) {
+			return TimelineTable.read(resultSet);
+		}
+	}
+}
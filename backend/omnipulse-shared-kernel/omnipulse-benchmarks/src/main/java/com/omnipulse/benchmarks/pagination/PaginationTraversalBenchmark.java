@@ -0,0 +1,86 @@
+package com.omnipulse.benchmarks.pagination;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks every page of a one million row tenant once, as an export or sync job would.
+ * Offset traversal is quadratic in the number of pages (minutes on H2); seek traversal is linear.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class PaginationTraversalBenchmark {
+
+	private static final int ROWS = 1_000_000;
+
+	@Param({"5000"})
+	public int pageSize;
+
+	private TimelineTable table;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		table = TimelineTable.create("traversal", ROWS);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		table.close();
+	}
+
+	@Benchmark
+	public long offset() throws SQLException {
+		long rows = 0;
+		try (PreparedStatement statement = table.connection.prepareStatement(TimelineTable.OFFSET_PAGE)) {
+			TimelineTable.Slice slice;
+			do {
+				statement.setString(1, TimelineTable.TENANT);
+				statement.setLong(2, rows);
+				statement.setInt(3, pageSize);
+				try (ResultSet resultSet = statement.executeQuery()) {
+					slice = TimelineTable.read(resultSet);
+				}
+				rows += slice.rows();
+			} while (slice.rows() == pageSize);
+		}
+		return rows;
+	}
+
+	@Benchmark
+	public long seek() throws SQLException {
+		long rows;
+		try (PreparedStatement first = table.connection.prepareStatement(TimelineTable.FIRST_PAGE);
+			 PreparedStatement next = table.connection.prepareStatement(TimelineTable.SEEK_PAGE)) {
+			first.setString(1, TimelineTable.TENANT);
+			first.setInt(2, pageSize);
+			TimelineTable.Slice slice;
+			try (ResultSet resultSet = first.executeQuery()) {
+				slice = TimelineTable.read(resultSet);
+			}
+			rows = slice.rows();
+
+			while (slice.rows() == pageSize) {
+				TimelineTable.Cursor cursor = slice.last();
+				next.setString(1, TimelineTable.TENANT);
+				next.setTimestamp(2, cursor.createdAt());
+				next.setTimestamp(3, cursor.createdAt());
+				next.setTimestamp(4, cursor.createdAt());
+				next.setObject(5, cursor.id());
+				next.setInt(6, pageSize);
+				try (ResultSet resultSet = next.executeQuery()) {
+					slice = TimelineTable.read(resultSet);
+				}
+				rows += slice.rows();
+			}
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,107 @@
+package com.omnipulse.benchmarks.pagination;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * In-memory H2 table shaped like a {@code TenantScopedEntity} with the recommended
+ * {@code (tenant_id, created_at, id)} index. The statements mirror what Hibernate renders for
+ * {@code Page} (offset + count) and for {@code KeysetRepository} (seek). {@code tenant_id} leads the ORDER BY only
+ * because H2, unlike PostgreSQL, does not otherwise walk the index in order.
+ */
+final class TimelineTable implements AutoCloseable {
+
+	static final String TENANT = "tenant-a";
+
+	static final String OFFSET_PAGE = """
+			SELECT id, tenant_id, created_at, payload FROM timeline_event
+			WHERE tenant_id = ?
+			ORDER BY tenant_id, created_at DESC, id DESC
+			OFFSET ? ROWS FETCH FIRST ? ROWS ONLY""";
+
+	static final String COUNT = "SELECT COUNT(*) FROM timeline_event WHERE tenant_id = ?";
+
+	static final String SEEK_PAGE = """
+			SELECT id, tenant_id, created_at, payload FROM timeline_event
+			WHERE tenant_id = ? AND created_at <= ? AND (created_at < ? OR (created_at = ? AND id < ?))
+			ORDER BY tenant_id, created_at DESC, id DESC
+			FETCH FIRST ? ROWS ONLY""";
+
+	static final String FIRST_PAGE = """
+			SELECT id, tenant_id, created_at, payload FROM timeline_event
+			WHERE tenant_id = ?
+			ORDER BY tenant_id, created_at DESC, id DESC
+			FETCH FIRST ? ROWS ONLY""";
+
+	final Connection connection;
+
+	private TimelineTable(Connection connection) {
+		this.connection = connection;
+	}
+
+	static TimelineTable create(String name, int rows) throws SQLException {
+		// H2 otherwise hands back the cached result when a prepared statement is re-run with the same parameters
+		Connection connection = DriverManager.getConnection(
+				"jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("""
+					CREATE TABLE timeline_event (
+					    id UUID PRIMARY KEY,
+					    tenant_id VARCHAR(100) NOT NULL,
+					    created_at TIMESTAMP(6) NOT NULL,
+					    payload VARCHAR(64))""");
+			statement.execute("CREATE INDEX ix_timeline_event_tenant_created ON timeline_event (tenant_id, created_at DESC, id DESC)");
+			// Two rows per second so the id tie-breaker is exercised
+			statement.execute("""
+					INSERT INTO timeline_event
+					SELECT RANDOM_UUID(), '%s', DATEADD('SECOND', X / 2, TIMESTAMP '2025-01-01 00:00:00'), 'payload-' || X
+					FROM SYSTEM_RANGE(1, %d)""".formatted(TENANT, rows));
+			statement.execute("ANALYZE");
+		}
+		return new TimelineTable(connection);
+	}
+
+	/** Cursor pointing at the last row before {@code offset}, as the client would have received it. */
+	Cursor cursorBefore(int offset) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(OFFSET_PAGE)) {
+			statement.setString(1, TENANT);
+			statement.setInt(2, offset - 1);
+			statement.setInt(3, 1);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return new Cursor(resultSet.getTimestamp(3), resultSet.getObject(1, UUID.class));
+			}
+		}
+	}
+
+	static Slice read(ResultSet resultSet) throws SQLException {
+		int rows = 0;
+		Cursor last = null;
+		while (resultSet.next()) {
+			last = new Cursor(resultSet.getTimestamp(3), resultSet.getObject(1, UUID.class));
+			resultSet.getString(4);
+			rows++;
+		}
+		return new Slice(rows, last);
+	}
+
+	@Override
+	public void close() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("SHUTDOWN");
+		}
+		connection.close();
+	}
+
+	record Cursor(Timestamp createdAt, UUID id) {
+	}
+
+	record Slice(int rows, Cursor last) {
+	}
+}
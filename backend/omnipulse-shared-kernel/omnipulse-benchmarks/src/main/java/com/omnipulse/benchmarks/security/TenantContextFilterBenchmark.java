@@ -0,0 +1,71 @@
+package com.omnipulse.benchmarks.security;
+
+import com.omnipulse.security.filter.TenantContextFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link TenantContextFilter}: correlation ID resolution, JWT claim extraction and the
+ * {@code UserContext} bind/clear around an empty chain.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantContextFilterBenchmark {
+
+	private static final FilterChain EMPTY_CHAIN = (request, response) -> {
+	};
+
+	@Param({"anonymous", "jwt"})
+	public String caller;
+
+	@Param({"true", "false"})
+	public boolean correlationHeader;
+
+	private final TenantContextFilter filter = new TenantContextFilter();
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+	private JwtAuthenticationToken authentication;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		request = new MockHttpServletRequest("GET", "/api/v1/conversations");
+		if (correlationHeader) {
+			request.addHeader(TenantContextFilter.HEADER_CORRELATION_ID, "0192a7c4-5b1e-7c3d-9e8f-0a1b2c3d4e5f");
+		}
+		response = new MockHttpServletResponse();
+
+		Jwt jwt = Jwt.withTokenValue("token")
+				.header("alg", "RS256")
+				.subject("8f14e45f-ceea-467f-a8f6-1b2c3d4e5f60")
+				.claim("tenant_id", "tenant-42")
+				.build();
+		authentication = new JwtAuthenticationToken(jwt);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public String doFilter() throws ServletException, IOException {
+		if ("jwt".equals(caller)) {
+			SecurityContextHolder.getContext().setAuthentication(authentication);
+		}
+		filter.doFilter(request, response, EMPTY_CHAIN);
+		return response.getHeader(TenantContextFilter.HEADER_CORRELATION_ID);
+	}
+}
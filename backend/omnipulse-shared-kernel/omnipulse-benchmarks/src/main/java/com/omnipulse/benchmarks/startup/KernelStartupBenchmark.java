@@ -0,0 +1,91 @@
+package com.omnipulse.benchmarks.startup;
+
+import com.omnipulse.jpa.config.DataJpaAutoConfiguration;
+import com.omnipulse.jpa.config.DataJpaProperties;
+import com.omnipulse.observability.ObservabilityAutoConfiguration;
+import com.omnipulse.observability.aspect.LoggingAspect;
+import com.omnipulse.security.config.SecurityAutoConfiguration;
+import com.omnipulse.webcore.config.WebCoreAutoConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of a non-web application on the data-jpa, web-core and observability auto-configurations, each
+ * measurement in a fresh JVM. {@code scan} finds the kernel beans with a package-wide {@code @ComponentScan}, as
+ * the auto-configurations used to; {@code imports} goes through their explicit imports. Both end up with the same
+ * beans.
+ * <p>
+ * To see the effect of a CDS archive, run once with
+ * {@code -jvmArgsAppend -XX:ArchiveClassesAtExit=target/startup.jsa} and then with
+ * {@code -jvmArgsAppend -XX:SharedArchiveFile=target/startup.jsa}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(12)
+public class KernelStartupBenchmark {
+
+	private static final String[] PROPERTIES = {
+			"--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1",
+			"--spring.jpa.open-in-view=false",
+			"--spring.main.log-startup-info=false",
+			"--logging.level.root=WARN"
+	};
+
+	@Param({"scan", "imports"})
+	public String discovery;
+
+	private ConfigurableApplicationContext context;
+
+	@Benchmark
+	public ConfigurableApplicationContext refresh() {
+		SpringApplication application = new SpringApplication(
+				"scan".equals(discovery) ? ScanningApplication.class : ImportingApplication.class);
+		application.setWebApplicationType(WebApplicationType.NONE);
+		application.setBannerMode(Banner.Mode.OFF);
+		context = application.run(PROPERTIES);
+		return context;
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+	public static class ImportingApplication {
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration(exclude = {
+			SecurityAutoConfiguration.class,
+			DataJpaAutoConfiguration.class,
+			WebCoreAutoConfiguration.class
+	})
+	@ComponentScan(
+			basePackages = {"com.omnipulse.jpa", "com.omnipulse.webcore", "com.omnipulse.observability"},
+			excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+					DataJpaAutoConfiguration.class,
+					WebCoreAutoConfiguration.class,
+					ObservabilityAutoConfiguration.class,
+					LoggingAspect.class
+			}))
+	@EnableConfigurationProperties(DataJpaProperties.class)
+	public static class ScanningApplication {
+	}
+}
@@ -0,0 +1,81 @@
+package com.omnipulse.benchmarks.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.PagedResponse;
+import com.omnipulse.common.enums.ApiResponseCode;
+import com.omnipulse.webcore.config.JacksonConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Building the {@link ApiResponse} envelope and serializing it through the {@link JacksonConfig} mapper,
+ * for a single item, a typical page and a large list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+	@Param({"1", "20", "1000"})
+	public int items;
+
+	private ObjectMapper objectMapper;
+	private List<ItemDto> content;
+	private Page<ItemDto> page;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		objectMapper = JacksonConfig.configure(JsonMapper.builder());
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+		content = IntStream.range(0, items)
+				.mapToObj(i -> new ItemDto(UUID.randomUUID(), "Item " + i, "tenant-42", now.plusMinutes(i),
+						BigDecimal.valueOf(i, 2), List.of("alpha", "beta")))
+				.toList();
+		page = new PageImpl<>(content, PageRequest.of(0, Math.max(items, 1)), items * 10L);
+	}
+
+	@Benchmark
+	public ApiResponse<List<ItemDto>> buildSuccess() {
+		return ApiResponse.success(content, "Items retrieved successfully");
+	}
+
+	@Benchmark
+	public ApiResponse<PagedResponse<ItemDto>> buildPaged() {
+		return ApiResponse.successPaged(page);
+	}
+
+	@Benchmark
+	public byte[] serializeSuccess() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(ApiResponse.success(content, "Items retrieved successfully"));
+	}
+
+	@Benchmark
+	public byte[] serializePaged() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(ApiResponse.successPaged(page));
+	}
+
+	@Benchmark
+	public byte[] serializeError() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(
+				ApiResponse.error("Item not found with id: 'x'", ApiResponseCode.RESOURCE_NOT_FOUND.getCode()));
+	}
+
+	public record ItemDto(UUID id, String name, String tenantId, LocalDateTime createdAt, BigDecimal amount,
+						  List<String> tags) {
+	}
+}
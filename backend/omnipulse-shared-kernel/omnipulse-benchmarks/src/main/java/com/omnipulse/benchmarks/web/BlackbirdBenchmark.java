@@ -0,0 +1,80 @@
+package com.omnipulse.benchmarks.web;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.omnipulse.benchmarks.web.ApiResponseSerializationBenchmark.ItemDto;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.PagedResponse;
+import com.omnipulse.webcore.config.JacksonConfig;
+import com.omnipulse.webcore.config.JacksonTuningProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Steady-state write and read of a 100-item page through the {@link JacksonConfig} mapper, with and without the
+ * Blackbird module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlackbirdBenchmark {
+
+	@Param({"false", "true"})
+	public boolean blackbird;
+
+	private ObjectWriter writer;
+	private ObjectReader reader;
+	private ApiResponse<PagedResponse<ItemDto>> response;
+	private byte[] payload;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		JacksonTuningProperties properties = new JacksonTuningProperties();
+		properties.setBlackbird(blackbird);
+		ObjectMapper mapper = JacksonConfig.configure(JsonMapper.builder(), properties);
+		JavaType type = responseType(mapper);
+		writer = mapper.writerFor(type);
+		reader = mapper.readerFor(type);
+		response = response(100);
+		payload = writer.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		return writer.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public ApiResponse<PagedResponse<ItemDto>> deserialize() throws IOException {
+		return reader.readValue(payload);
+	}
+
+	static JavaType responseType(ObjectMapper mapper) {
+		return mapper.getTypeFactory().constructParametricType(ApiResponse.class,
+				mapper.getTypeFactory().constructParametricType(PagedResponse.class, ItemDto.class));
+	}
+
+	static ApiResponse<PagedResponse<ItemDto>> response(int items) {
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+		List<ItemDto> content = IntStream.range(0, items)
+				.mapToObj(i -> new ItemDto(UUID.randomUUID(), "Item " + i, "tenant-42", now.plusMinutes(i),
+						BigDecimal.valueOf(i, 2), List.of("alpha", "beta")))
+				.toList();
+		return ApiResponse.successPaged(new PageImpl<>(content, PageRequest.of(0, items), items * 10L));
+	}
+}
@@ -0,0 +1,88 @@
+package com.omnipulse.benchmarks.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.ErrorResponseTemplates;
+import com.omnipulse.common.enums.ApiResponseCode;
+import com.omnipulse.common.exception.OmniPulseException;
+import com.omnipulse.common.exception.ResourceNotFoundException;
+import com.omnipulse.webcore.config.JacksonConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a rejected request from throw to body: the exception is raised {@code stackDepth} frames deep
+ * (a Spring MVC dispatch is usually well past 100) and turned into the error envelope.
+ * {@code legacy*} reproduces the previous path (captured trace, {@code String.format}, ObjectMapper);
+ * {@code template*} is the stackless exception plus {@link ErrorResponseTemplates}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+	@Param({"20", "150"})
+	public int stackDepth;
+
+	private ObjectMapper objectMapper;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		objectMapper = JacksonConfig.configure(JsonMapper.builder());
+	}
+
+	@Benchmark
+	public OmniPulseException legacyThrow() {
+		return throwAt(stackDepth, true);
+	}
+
+	@Benchmark
+	public OmniPulseException templateThrow() {
+		return throwAt(stackDepth, false);
+	}
+
+	@Benchmark
+	public byte[] legacyEndToEnd() throws JsonProcessingException {
+		OmniPulseException ex = throwAt(stackDepth, true);
+		return objectMapper.writeValueAsBytes(ApiResponse.error(ex.getMessage(), ex.getResponseCode().getCode()));
+	}
+
+	@Benchmark
+	public byte[] templateEndToEnd() {
+		OmniPulseException ex = throwAt(stackDepth, false);
+		return ErrorResponseTemplates.render(ex.getResponseCode(), ex.getMessage());
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public byte[] legacyEndToEndContended() throws JsonProcessingException {
+		return legacyEndToEnd();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public byte[] templateEndToEndContended() {
+		return templateEndToEnd();
+	}
+
+	private static OmniPulseException throwAt(int depth, boolean legacy) {
+		if (depth > 0) {
+			return throwAt(depth - 1, legacy);
+		}
+		try {
+			if (legacy) {
+				throw new OmniPulseException(String.format("%s not found with %s: '%s'", "Tenant", "id", "acme"),
+						ApiResponseCode.RESOURCE_NOT_FOUND);
+			}
+			throw new ResourceNotFoundException("Tenant", "id", "acme");
+		} catch (OmniPulseException ex) {
+			return ex;
+		}
+	}
+}
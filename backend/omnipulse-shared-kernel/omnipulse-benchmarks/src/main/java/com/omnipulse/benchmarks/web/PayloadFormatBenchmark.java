@@ -0,0 +1,93 @@
+package com.omnipulse.benchmarks.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.omnipulse.benchmarks.web.ApiResponseSerializationBenchmark.ItemDto;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.PagedResponse;
+import com.omnipulse.webcore.config.JacksonConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A paged {@link ApiResponse} written and read as JSON, Smile and CBOR, each plain and gzipped, with the mappers
+ * the web-core converters use. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+	private static final TypeReference<ApiResponse<PagedResponse<ItemDto>>> RESPONSE_TYPE = new TypeReference<>() {
+	};
+
+	@Param({"json", "smile", "cbor"})
+	public String format;
+
+	@Param({"false", "true"})
+	public boolean gzip;
+
+	@Param({"20", "1000"})
+	public int items;
+
+	private ObjectMapper mapper;
+	private ApiResponse<PagedResponse<ItemDto>> response;
+	private byte[] payload;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		mapper = switch (format) {
+			case "json" -> JacksonConfig.configure(JsonMapper.builder());
+			case "smile" -> JacksonConfig.configure(SmileMapper.builder());
+			case "cbor" -> JacksonConfig.configure(CBORMapper.builder());
+			default -> throw new IllegalArgumentException(format);
+		};
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+		List<ItemDto> content = IntStream.range(0, items)
+				.mapToObj(i -> new ItemDto(UUID.randomUUID(), "Item " + i, "tenant-42", now.plusMinutes(i),
+						BigDecimal.valueOf(i, 2), List.of("alpha", "beta")))
+				.toList();
+		response = ApiResponse.successPaged(new PageImpl<>(content, PageRequest.of(0, Math.max(items, 1)), items * 10L));
+		payload = serialize();
+		System.out.printf("%n%s gzip=%s items=%d: %d bytes%n", format, gzip, items, payload.length);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+		try (OutputStream out = gzip ? new GZIPOutputStream(bytes, 8192) : bytes) {
+			mapper.writeValue(out, response);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public ApiResponse<PagedResponse<ItemDto>> deserialize() throws IOException {
+		try (InputStream in = gzip
+				? new GZIPInputStream(new ByteArrayInputStream(payload), 8192)
+				: new ByteArrayInputStream(payload)) {
+			return mapper.readValue(in, RESPONSE_TYPE);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.omnipulse.benchmarks.web;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.omnipulse.benchmarks.web.ApiResponseSerializationBenchmark.ItemDto;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.PagedResponse;
+import com.omnipulse.webcore.config.JacksonConfig;
+import com.omnipulse.webcore.jackson.SerializerWarmUp;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First write of a paged response on a fresh mapper, as after a deploy, with and without {@link SerializerWarmUp}
+ * having run at startup. Classes are already loaded and JIT-compiled after the first iterations, so this isolates
+ * serializer construction from class loading.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 200)
+@Measurement(iterations = 1000)
+@Fork(1)
+public class SerializerWarmUpBenchmark {
+
+	@Param({"false", "true"})
+	public boolean warmUp;
+
+	private DefaultListableBeanFactory controllers;
+	private ApiResponse<PagedResponse<ItemDto>> response;
+	private ObjectMapper mapper;
+	private JavaType type;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		controllers = new DefaultListableBeanFactory();
+		controllers.registerBeanDefinition("itemController", new RootBeanDefinition(ItemController.class));
+		response = BlackbirdBenchmark.response(20);
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpMapper() {
+		mapper = JacksonConfig.configure(JsonMapper.builder());
+		type = BlackbirdBenchmark.responseType(mapper);
+		if (warmUp) {
+			new SerializerWarmUp(mapper, controllers).afterSingletonsInstantiated();
+		}
+	}
+
+	@Benchmark
+	public byte[] firstWrite() throws IOException {
+		return mapper.writerFor(type).writeValueAsBytes(response);
+	}
+
+	@RestController
+	public static class ItemController {
+
+		@GetMapping("/items")
+		public ApiResponse<PagedResponse<ItemDto>> list() {
+			return BlackbirdBenchmark.response(20);
+		}
+	}
+}
@@ -67,5 +67,13 @@ public class ApiResponse<T> {
 				.data(pagedResponse)
 				.build();
 	}
-}
 
+	public static <T> ApiResponse<SlicedResponse<T>> successSliced(SlicedResponse<T> slice) {
+		return ApiResponse.<SlicedResponse<T>>builder()
+				.timestamp(LocalDateTime.now())
+				.status(Status.SUCCESS)
+				.message("Data retrieved successfully")
+				.data(slice)
+				.build();
+	}
+}
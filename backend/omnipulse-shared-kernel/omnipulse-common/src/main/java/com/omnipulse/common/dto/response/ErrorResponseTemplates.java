@@ -0,0 +1,70 @@
+package com.omnipulse.common.dto.response;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.omnipulse.common.enums.ApiResponseCode;
+import com.omnipulse.common.enums.Status;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Pre-encoded UTF-8 bodies for single-message error responses. Each {@link ApiResponseCode} gets its
+ * {@code status}/{@code errorCode} prefix encoded once; a render only splices in the timestamp and the escaped
+ * message, skipping the {@code ApiResponse} allocation and the ObjectMapper walk.
+ * <p>
+ * The output is byte-for-byte what the web-core {@code JacksonConfig} mapper writes for
+ * {@link ApiResponse#error(String, String)}; keep the two in step when the envelope changes.
+ */
+@UtilityClass
+public class ErrorResponseTemplates {
+
+	private static final Map<ApiResponseCode, byte[]> PREFIXES = new EnumMap<>(ApiResponseCode.class);
+
+	private static final byte[] MESSAGE_FIELD = ascii("\",\"message\":\"");
+	private static final byte[] SUFFIX = ascii("\"}");
+
+	static {
+		for (ApiResponseCode code : ApiResponseCode.values()) {
+			PREFIXES.put(code, ascii("{\"status\":\"" + Status.FAIL.name()
+					+ "\",\"errorCode\":\"" + code.getCode()
+					+ "\",\"timestamp\":\""));
+		}
+	}
+
+	public static byte[] render(ApiResponseCode code, String message) {
+		return render(code, message, LocalDateTime.now());
+	}
+
+	public static byte[] render(ApiResponseCode code, String message, LocalDateTime timestamp) {
+		byte[] prefix = PREFIXES.get(code);
+		// ISO_LOCAL_DATE_TIME is what JavaTimeModule writes when WRITE_DATES_AS_TIMESTAMPS is off
+		byte[] time = ascii(timestamp.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+		if (message == null) {
+			byte[] body = new byte[prefix.length + time.length + SUFFIX.length];
+			copy(SUFFIX, body, copy(time, body, copy(prefix, body, 0)));
+			return body;
+		}
+		byte[] text = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+
+		byte[] body = new byte[prefix.length + time.length + MESSAGE_FIELD.length + text.length + SUFFIX.length];
+		int offset = copy(prefix, body, 0);
+		offset = copy(time, body, offset);
+		offset = copy(MESSAGE_FIELD, body, offset);
+		offset = copy(text, body, offset);
+		copy(SUFFIX, body, offset);
+		return body;
+	}
+
+	private static int copy(byte[] source, byte[] target, int offset) {
+		System.arraycopy(source, 0, target, offset, source.length);
+		return offset + source.length;
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+}
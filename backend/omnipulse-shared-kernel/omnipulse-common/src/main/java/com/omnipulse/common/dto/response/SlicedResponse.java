@@ -0,0 +1,39 @@
+package com.omnipulse.common.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor-based alternative to {@link PagedResponse}: no {@code COUNT(*)} unless {@code totalElements} was asked for,
+ * and no {@code OFFSET}, so deep pages cost the same as the first one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SlicedResponse<T> {
+
+	private List<T> content;
+	private int size;
+	private boolean hasNext;
+	/** Pass back as {@code cursor} to fetch the following slice; absent on the last one. */
+	private String nextCursor;
+	private Long totalElements;
+
+	public <R> SlicedResponse<R> map(Function<? super T, ? extends R> mapper) {
+		return SlicedResponse.<R>builder()
+				.content(content.stream().<R>map(mapper).toList())
+				.size(size)
+				.hasNext(hasNext)
+				.nextCursor(nextCursor)
+				.totalElements(totalElements)
+				.build();
+	}
+}
@@ -14,6 +14,7 @@ public enum ApiResponseCode {
 	FORBIDDEN("4003", "Access denied"),
 	RESOURCE_NOT_FOUND("4004", "Resource not found"),
 	CONFLICT("4009", "Resource conflict"),
+	TOO_MANY_REQUESTS("4029", "Too many requests"),
 
 	INTERNAL_ERROR("5000", "An unexpected internal error occurred"),
 	SERVICE_UNAVAILABLE("5003", "Service unavailable"),
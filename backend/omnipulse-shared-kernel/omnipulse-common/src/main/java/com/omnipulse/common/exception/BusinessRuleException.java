@@ -4,6 +4,6 @@ import com.omnipulse.common.enums.ApiResponseCode;
 
 public class BusinessRuleException extends OmniPulseException {
 	public BusinessRuleException(String message) {
-		super(message, ApiResponseCode.BAD_REQUEST);
+		super(message, ApiResponseCode.BAD_REQUEST, CAPTURE_STACK_TRACE);
 	}
 }
@@ -4,11 +4,11 @@ import com.omnipulse.common.enums.ApiResponseCode;
 
 public class DuplicateResourceException extends OmniPulseException {
 	public DuplicateResourceException(String resourceName, String fieldName, Object fieldValue) {
-		super(String.format("%s already exists with %s: '%s'", resourceName, fieldName, fieldValue),
-				ApiResponseCode.CONFLICT);
+		super(resourceName + " already exists with " + fieldName + ": '" + fieldValue + "'",
+				ApiResponseCode.CONFLICT, CAPTURE_STACK_TRACE);
 	}
 
 	public DuplicateResourceException(String message, ApiResponseCode code) {
-		super(message, code);
+		super(message, code, CAPTURE_STACK_TRACE);
 	}
 }
@@ -0,0 +1,166 @@
+package com.omnipulse.common.exception;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Groups exceptions by type and top stack frames and decides which occurrences deserve a full stack trace: the first
+ * of each fingerprint per {@code window}, carrying the number suppressed since the previous one. Every occurrence is
+ * counted, and the counts are what the observability module exports as metrics.
+ * <p>
+ * An exception recorded again on the same thread, as when it passes from a service through a controller to the
+ * exception handler, is recognized and neither counted nor logged twice; so is one that wraps it.
+ * <p>
+ * At most {@code maxFingerprints} are tracked; later ones share the {@value #OVERFLOW} fingerprint.
+ */
+public class ExceptionFingerprints {
+
+	public static final String OVERFLOW = "other";
+
+	// Weak, so a pooled thread does not keep the last failure's object graph alive until its next one
+	private static final ThreadLocal<WeakReference<Throwable>> LAST_RECORDED = new ThreadLocal<>();
+
+	private final Map<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+	private final long windowNanos;
+	private final int topFrames;
+	private final int maxFingerprints;
+	private final LongSupplier nanoClock;
+	private final List<Consumer<Fingerprint>> newFingerprintListeners = new CopyOnWriteArrayList<>();
+
+	public ExceptionFingerprints() {
+		this(Duration.ofMinutes(1), 5, 200);
+	}
+
+	public ExceptionFingerprints(Duration window, int topFrames, int maxFingerprints) {
+		this(window, topFrames, maxFingerprints, System::nanoTime);
+	}
+
+	ExceptionFingerprints(Duration window, int topFrames, int maxFingerprints, LongSupplier nanoClock) {
+		this.windowNanos = window.toNanos();
+		this.topFrames = topFrames;
+		this.maxFingerprints = maxFingerprints;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * @return {@code null} when this exception, or one it wraps, was the last one recorded on this thread
+	 */
+	public Occurrence record(Throwable throwable) {
+		if (alreadyRecorded(throwable)) {
+			return null;
+		}
+		LAST_RECORDED.set(new WeakReference<>(throwable));
+
+		Fingerprint fingerprint = fingerprintFor(throwable);
+		fingerprint.count.increment();
+
+		long now = nanoClock.getAsLong();
+		long windowStart = fingerprint.windowStart.get();
+		if (now - windowStart >= windowNanos && fingerprint.windowStart.compareAndSet(windowStart, now)) {
+			return new Occurrence(fingerprint.id, true, fingerprint.suppressed.getAndSet(0));
+		}
+		fingerprint.suppressed.incrementAndGet();
+		return new Occurrence(fingerprint.id, false, 0);
+	}
+
+	private static boolean alreadyRecorded(Throwable throwable) {
+		WeakReference<Throwable> reference = LAST_RECORDED.get();
+		Throwable last = reference != null ? reference.get() : null;
+		if (last == null) {
+			return false;
+		}
+		for (Throwable t = throwable; t != null; t = t.getCause() == t ? null : t.getCause()) {
+			if (t == last) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Fingerprint fingerprintFor(Throwable throwable) {
+		String id = fingerprint(throwable);
+		Fingerprint existing = fingerprints.get(id);
+		if (existing != null) {
+			return existing;
+		}
+		if (fingerprints.size() >= maxFingerprints) {
+			return fingerprints.computeIfAbsent(OVERFLOW, key -> newFingerprint(key, OVERFLOW));
+		}
+		return fingerprints.computeIfAbsent(id, key -> newFingerprint(key, throwable.getClass().getName()));
+	}
+
+	private Fingerprint newFingerprint(String id, String type) {
+		Fingerprint fingerprint = new Fingerprint(id, type, nanoClock.getAsLong() - windowNanos);
+		newFingerprintListeners.forEach(listener -> listener.accept(fingerprint));
+		return fingerprint;
+	}
+
+	/**
+	 * Hex digest of the exception type and its top frames; stackless exceptions are grouped by type alone.
+	 */
+	public String fingerprint(Throwable throwable) {
+		long hash = throwable.getClass().getName().hashCode();
+		StackTraceElement[] stack = throwable.getStackTrace();
+		for (int i = 0; i < Math.min(topFrames, stack.length); i++) {
+			hash = 31 * hash + stack[i].getClassName().hashCode();
+			hash = 31 * hash + stack[i].getMethodName().hashCode();
+			hash = 31 * hash + stack[i].getLineNumber();
+		}
+		return Long.toHexString(hash);
+	}
+
+	public Collection<Fingerprint> getFingerprints() {
+		return Collections.unmodifiableCollection(fingerprints.values());
+	}
+
+	/**
+	 * Adds a listener called once per new fingerprint, on the recording thread, e.g. one per meter registry.
+	 */
+	public void onNewFingerprint(Consumer<Fingerprint> listener) {
+		newFingerprintListeners.add(listener);
+	}
+
+	/**
+	 * @param logTrace   whether this occurrence should be logged with its stack trace
+	 * @param suppressed occurrences of the fingerprint recorded without a trace since the last one that had it
+	 */
+	public record Occurrence(String fingerprint, boolean logTrace, long suppressed) {
+	}
+
+	public static final class Fingerprint {
+
+		private final String id;
+		private final String type;
+		private final LongAdder count = new LongAdder();
+		private final AtomicLong windowStart;
+		private final AtomicLong suppressed = new AtomicLong();
+
+		private Fingerprint(String id, String type, long windowStart) {
+			this.id = id;
+			this.type = type;
+			this.windowStart = new AtomicLong(windowStart);
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+	}
+}
@@ -6,10 +6,27 @@ import lombok.Getter;
 @Getter
 public class OmniPulseException extends RuntimeException {
 
+	/**
+	 * Business exceptions describe an expected outcome (not found, conflict, rule violated) and are mapped straight
+	 * to a response, so by default they skip {@code fillInStackTrace}. Set to {@code true} to capture traces again
+	 * while debugging.
+	 */
+	public static final String CAPTURE_STACK_TRACE_PROPERTY = "omnipulse.exception.capture-stack-trace";
+
+	protected static final boolean CAPTURE_STACK_TRACE = Boolean.getBoolean(CAPTURE_STACK_TRACE_PROPERTY);
+
 	private final ApiResponseCode responseCode;
 
 	public OmniPulseException(String message, ApiResponseCode responseCode) {
 		super(message);
 		this.responseCode = responseCode;
 	}
+
+	/**
+	 * @param writableStackTrace {@code false} for the stackless mode; no trace is captured and none can be set later
+	 */
+	protected OmniPulseException(String message, ApiResponseCode responseCode, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+		this.responseCode = responseCode;
+	}
 }
@@ -4,7 +4,7 @@ import com.omnipulse.common.enums.ApiResponseCode;
 
 public class ResourceNotFoundException extends OmniPulseException {
 	public ResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
-		super(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue),
-				ApiResponseCode.RESOURCE_NOT_FOUND);
+		super(resourceName + " not found with " + fieldName + ": '" + fieldValue + "'",
+				ApiResponseCode.RESOURCE_NOT_FOUND, CAPTURE_STACK_TRACE);
 	}
 }
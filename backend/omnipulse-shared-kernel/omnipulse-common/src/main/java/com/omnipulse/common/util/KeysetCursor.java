@@ -0,0 +1,47 @@
+package com.omnipulse.common.util;
+
+import com.omnipulse.common.exception.BusinessRuleException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page, ordered by {@code (createdAt, id)}.
+ * Clients only ever see the opaque, URL-safe {@link #encode()} form.
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+	private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+	public String encode() {
+		ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+				.putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+				.putInt(createdAt.getNano())
+				.putLong(id.getMostSignificantBits())
+				.putLong(id.getLeastSignificantBits());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+	}
+
+	/**
+	 * @return the decoded cursor, or {@code null} for a missing cursor (first page)
+	 */
+	public static KeysetCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+			if (bytes.length != ENCODED_BYTES) {
+				throw new IllegalArgumentException("Unexpected cursor length " + bytes.length);
+			}
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+			return new KeysetCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+		} catch (RuntimeException e) {
+			throw new BusinessRuleException("Invalid pagination cursor");
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.omnipulse.common.util;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Immutable snapshot of the caller identity bound to the current unit of work.
+ * A single instance is shared by every task forked from the request, so it must never be mutated.
+ */
+public record RequestContext(String userId, String tenantId, String correlationId) implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	public static final RequestContext EMPTY = new RequestContext(null, null, null);
+
+	public static RequestContext of(String userId, String tenantId, String correlationId) {
+		if (userId == null && tenantId == null && correlationId == null) {
+			return EMPTY;
+		}
+		return new RequestContext(userId, tenantId, correlationId);
+	}
+
+	public RequestContext withUserId(String userId) {
+		return of(userId, tenantId, correlationId);
+	}
+
+	public RequestContext withTenantId(String tenantId) {
+		return of(userId, tenantId, correlationId);
+	}
+
+	public RequestContext withCorrelationId(String correlationId) {
+		return of(userId, tenantId, correlationId);
+	}
+
+	public boolean isEmpty() {
+		return this == EMPTY || (userId == null && tenantId == null && correlationId == null);
+	}
+}
@@ -3,63 +3,156 @@ package com.omnipulse.common.util;
 import lombok.experimental.UtilityClass;
 import org.slf4j.MDC;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @UtilityClass
 public class UserContext {
 
-	private static final ThreadLocal<String> CURRENT_USER = new ThreadLocal<>();
-	private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
-	private static final ThreadLocal<String> CORRELATION_ID = new ThreadLocal<>();
+	/**
+	 * When {@code true}, threads started while a context is bound (virtual threads, structured task scope
+	 * forks) inherit it. Pooled executors must then re-bind via {@link #wrap(Runnable)} so reused workers
+	 * never keep the context of the request that happened to create them.
+	 */
+	public static final String INHERITABLE_PROPERTY = "omnipulse.context.inheritable";
+
+	private static final ThreadLocal<RequestContext> CURRENT = Boolean.getBoolean(INHERITABLE_PROPERTY)
+			? new InheritableThreadLocal<>()
+			: new ThreadLocal<>();
 
 	public static final String KEY_USER = "userId";
 	public static final String KEY_TENANT = "tenantId";
 	public static final String KEY_CORRELATION = "correlationId";
 
-	public static void setUserId(String userId) {
-		if (userId == null || userId.isEmpty()) {
-			CURRENT_USER.remove();
-			MDC.remove(KEY_USER);
-		} else {
-			CURRENT_USER.set(userId);
-			MDC.put(KEY_USER, userId);
+	/**
+	 * Open {@link MdcMirroringSuppression}s; while there is one, the context is not copied into the SLF4J
+	 * {@link MDC}.
+	 */
+	private static final AtomicInteger MDC_MIRRORING_SUPPRESSIONS = new AtomicInteger();
+
+	/**
+	 * Stops copying the context into the SLF4J {@link MDC} until the returned handle is closed. Meant for a
+	 * logging setup that reads {@link #current()} directly (see the observability module's MDC adapter), which
+	 * holds the handle for as long as it is installed.
+	 */
+	public static MdcMirroringSuppression suppressMdcMirroring() {
+		MDC_MIRRORING_SUPPRESSIONS.incrementAndGet();
+		AtomicBoolean open = new AtomicBoolean(true);
+		return () -> {
+			if (open.compareAndSet(true, false)) {
+				MDC_MIRRORING_SUPPRESSIONS.decrementAndGet();
+			}
+		};
+	}
+
+	public static boolean isMdcMirroring() {
+		return MDC_MIRRORING_SUPPRESSIONS.get() == 0;
+	}
+
+	/**
+	 * Handle returned by {@link #suppressMdcMirroring()}; closing it more than once has no further effect.
+	 */
+	public interface MdcMirroringSuppression extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+
+	public static RequestContext current() {
+		RequestContext context = CURRENT.get();
+		return context != null ? context : RequestContext.EMPTY;
+	}
+
+	public static void set(RequestContext context) {
+		bind(context);
+		syncMdc(KEY_USER, context == null ? null : context.userId());
+		syncMdc(KEY_TENANT, context == null ? null : context.tenantId());
+		syncMdc(KEY_CORRELATION, context == null ? null : context.correlationId());
+	}
+
+	public static void runWith(RequestContext context, Runnable task) {
+		RequestContext previous = CURRENT.get();
+		set(context);
+		try {
+			task.run();
+		} finally {
+			set(previous);
 		}
 	}
 
+	public static <T> T callWith(RequestContext context, Callable<T> task) throws Exception {
+		RequestContext previous = CURRENT.get();
+		set(context);
+		try {
+			return task.call();
+		} finally {
+			set(previous);
+		}
+	}
+
+	public static Runnable wrap(Runnable task) {
+		RequestContext captured = current();
+		return () -> runWith(captured, task);
+	}
+
+	public static <T> Callable<T> wrap(Callable<T> task) {
+		RequestContext captured = current();
+		return () -> callWith(captured, task);
+	}
+
+	public static void setUserId(String userId) {
+		String value = (userId == null || userId.isEmpty()) ? null : userId;
+		bind(current().withUserId(value));
+		syncMdc(KEY_USER, value);
+	}
+
 	public static String getUserId() {
-		return CURRENT_USER.get();
+		RequestContext context = CURRENT.get();
+		return context != null ? context.userId() : null;
 	}
 
 	public static void setTenantId(String tenantId) {
-		if (tenantId == null) {
-			CURRENT_TENANT.remove();
-			MDC.remove(KEY_TENANT);
-		} else {
-			CURRENT_TENANT.set(tenantId);
-			MDC.put(KEY_TENANT, tenantId);
-		}
+		bind(current().withTenantId(tenantId));
+		syncMdc(KEY_TENANT, tenantId);
 	}
 
 	public static String getTenantId() {
-		return CURRENT_TENANT.get();
+		RequestContext context = CURRENT.get();
+		return context != null ? context.tenantId() : null;
 	}
 
 	public static void setCorrelationId(String correlationId) {
-		if (correlationId == null) {
-			CORRELATION_ID.remove();
-			MDC.remove(KEY_CORRELATION);
-		} else {
-			CORRELATION_ID.set(correlationId);
-			MDC.put(KEY_CORRELATION, correlationId);
-		}
+		bind(current().withCorrelationId(correlationId));
+		syncMdc(KEY_CORRELATION, correlationId);
 	}
 
 	public static String getCorrelationId() {
-		return CORRELATION_ID.get();
+		RequestContext context = CURRENT.get();
+		return context != null ? context.correlationId() : null;
 	}
 
 	public static void clear() {
-		CURRENT_USER.remove();
-		CURRENT_TENANT.remove();
-		CORRELATION_ID.remove();
+		CURRENT.remove();
 		MDC.clear();
 	}
-}
\ No newline at end of file
+
+	private static void bind(RequestContext context) {
+		if (context == null || context.isEmpty()) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(context);
+		}
+	}
+
+	private static void syncMdc(String key, String value) {
+		if (!isMdcMirroring()) {
+			return;
+		}
+		if (value == null) {
+			MDC.remove(key);
+		} else {
+			MDC.put(key, value);
+		}
+	}
+}
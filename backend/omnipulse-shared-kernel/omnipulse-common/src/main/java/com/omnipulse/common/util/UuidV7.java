@@ -0,0 +1,56 @@
+package com.omnipulse.common.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48-bit Unix millisecond timestamp, a 16-bit counter (method 1) split over the
+ * 12 bits of {@code rand_a} and the top 4 bits of {@code rand_b}, and 58 random bits from
+ * {@link ThreadLocalRandom}. Values are strictly increasing within the JVM, even when the wall clock stalls or
+ * steps back, and generation is lock-free. The counter only carries into the timestamp past 65536 values in one
+ * millisecond, so the embedded time stays on the wall clock under bulk inserts.
+ */
+@UtilityClass
+public class UuidV7 {
+
+	private static final long VERSION_7 = 0x7000L;
+	private static final long VARIANT_IETF = 0x8000000000000000L;
+	private static final long RANDOM_B_MASK = 0x03FFFFFFFFFFFFFFL;
+	private static final int COUNTER_BITS = 16;
+	private static final int COUNTER_LOW_BITS = 4;
+	private static final long COUNTER_SEED_MASK = 0x3FFL;
+
+	/** {@code timestampMillis << 16 | counter} of the last issued value. */
+	private static final AtomicLong LAST = new AtomicLong();
+
+	public static UUID next() {
+		long state = nextState(System.currentTimeMillis());
+		long counter = state & ((1L << COUNTER_BITS) - 1);
+		long msb = ((state >>> COUNTER_BITS) << 16) | VERSION_7 | (counter >>> COUNTER_LOW_BITS);
+		long lsb = VARIANT_IETF | ((counter & ((1L << COUNTER_LOW_BITS) - 1)) << 58)
+				| (ThreadLocalRandom.current().nextLong() & RANDOM_B_MASK);
+		return new UUID(msb, lsb);
+	}
+
+	public static long timestampMillis(UUID uuid) {
+		return uuid.getMostSignificantBits() >>> 16;
+	}
+
+	private static long nextState(long nowMillis) {
+		long now = nowMillis << COUNTER_BITS;
+		while (true) {
+			long last = LAST.get();
+			// A new millisecond starts the counter at a random low value so IDs are not trivially guessable;
+			// within the same millisecond (or after a clock step back) the counter simply increments.
+			long candidate = now > last
+					? now | (ThreadLocalRandom.current().nextLong() & COUNTER_SEED_MASK)
+					: last + 1;
+			if (LAST.compareAndSet(last, candidate)) {
+				return candidate;
+			}
+		}
+	}
+}
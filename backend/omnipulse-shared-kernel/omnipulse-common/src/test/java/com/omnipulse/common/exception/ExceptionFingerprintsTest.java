@@ -0,0 +1,67 @@
+package com.omnipulse.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExceptionFingerprints Tests")
+class ExceptionFingerprintsTest {
+
+	private final AtomicLong clock = new AtomicLong();
+	private final ExceptionFingerprints fingerprints = new ExceptionFingerprints(Duration.ofMinutes(1), 5, 3, clock::get);
+
+	@Test
+	@DisplayName("Should log the trace once per window and report suppressed occurrences with the next one")
+	void shouldLogTraceOncePerWindow() {
+		ExceptionFingerprints.Occurrence[] occurrences = new ExceptionFingerprints.Occurrence[4];
+		for (int i = 0; i < occurrences.length; i++) {
+			if (i == 3) {
+				clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+			}
+			occurrences[i] = fingerprints.record(failure());
+		}
+
+		assertTrue(occurrences[0].logTrace());
+		assertEquals(0, occurrences[0].suppressed());
+		assertFalse(occurrences[1].logTrace());
+		assertFalse(occurrences[2].logTrace());
+		assertTrue(occurrences[3].logTrace());
+		assertEquals(2, occurrences[3].suppressed());
+		assertEquals(occurrences[0].fingerprint(), occurrences[3].fingerprint());
+		assertEquals(4, fingerprints.getFingerprints().iterator().next().getCount());
+	}
+
+	@Test
+	@DisplayName("Should not record the same exception, or one wrapping it, twice on a thread")
+	void shouldRecognizeAlreadyRecordedException() {
+		IllegalStateException failure = failure();
+
+		assertNotNull(fingerprints.record(failure));
+		assertNull(fingerprints.record(failure));
+		assertNull(fingerprints.record(new RuntimeException("wrapped", failure)));
+		assertEquals(1, fingerprints.getFingerprints().iterator().next().getCount());
+	}
+
+	@Test
+	@DisplayName("Should separate fingerprints by type and throwing frame, up to the limit")
+	void shouldSeparateFingerprintsUpToLimit() {
+		String a = fingerprints.record(failure()).fingerprint();
+		String b = fingerprints.record(new IllegalArgumentException()).fingerprint();
+		String c = fingerprints.record(new IllegalStateException("thrown elsewhere")).fingerprint();
+		String overflow = fingerprints.record(new UnsupportedOperationException()).fingerprint();
+
+		assertEquals(3, Set.of(a, b, c).size());
+		assertEquals(ExceptionFingerprints.OVERFLOW, overflow);
+		assertEquals(4, fingerprints.getFingerprints().size());
+	}
+
+	private static IllegalStateException failure() {
+		return new IllegalStateException("downstream unavailable");
+	}
+}
@@ -0,0 +1,39 @@
+package com.omnipulse.common.util;
+
+import com.omnipulse.common.exception.BusinessRuleException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+	@Test
+	@DisplayName("Should round-trip createdAt with nanoseconds and id")
+	void shouldRoundTrip() {
+		KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_789), UUID.randomUUID());
+
+		String encoded = cursor.encode();
+
+		assertEquals(cursor, KeysetCursor.decode(encoded));
+		assertTrue(encoded.matches("[A-Za-z0-9_-]+"), "cursor must be URL safe: " + encoded);
+	}
+
+	@Test
+	@DisplayName("Should treat a missing cursor as the first page")
+	void shouldReturnNullForMissingCursor() {
+		assertNull(KeysetCursor.decode(null));
+		assertNull(KeysetCursor.decode(" "));
+	}
+
+	@Test
+	@DisplayName("Should reject tampered cursors as a bad request")
+	void shouldRejectMalformedCursor() {
+		assertThrows(BusinessRuleException.class, () -> KeysetCursor.decode("not-a-cursor"));
+		assertThrows(BusinessRuleException.class, () -> KeysetCursor.decode("%%%"));
+	}
+}
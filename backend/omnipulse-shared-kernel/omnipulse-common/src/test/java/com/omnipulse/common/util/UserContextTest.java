@@ -155,6 +155,33 @@ class UserContextTest {
 			assertNull(MDC.get(UserContext.KEY_USER));
 		}
 
+		@Test
+		@DisplayName("Should not touch MDC when mirroring is off")
+		void shouldSkipMDCWhenMirroringIsOff() {
+			try (UserContext.MdcMirroringSuppression ignored = UserContext.suppressMdcMirroring()) {
+				UserContext.set(RequestContext.of("user-123", "tenant-456", "corr-789"));
+
+				assertEquals("tenant-456", UserContext.getTenantId());
+				assertNull(MDC.get(UserContext.KEY_TENANT));
+			}
+		}
+
+		@Test
+		@DisplayName("Should mirror into MDC again once every suppression is closed")
+		void shouldResumeMirroringWhenEverySuppressionIsClosed() {
+			UserContext.MdcMirroringSuppression first = UserContext.suppressMdcMirroring();
+			UserContext.MdcMirroringSuppression second = UserContext.suppressMdcMirroring();
+
+			first.close();
+			first.close();
+			assertFalse(UserContext.isMdcMirroring());
+
+			second.close();
+			assertTrue(UserContext.isMdcMirroring());
+			UserContext.set(RequestContext.of("user-123", "tenant-456", "corr-789"));
+			assertEquals("tenant-456", MDC.get(UserContext.KEY_TENANT));
+		}
+
 		@Test
 		@DisplayName("Should not throw exception when clearing empty context")
 		void shouldNotThrowExceptionWhenClearingEmptyContext() {
@@ -246,6 +273,61 @@ class UserContextTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Scoped Binding Tests")
+	class ScopedBindingTests {
+
+		@Test
+		@DisplayName("Should expose bound context through the getters and MDC")
+		void shouldExposeBoundContext() {
+			UserContext.set(RequestContext.of("user-1", "tenant-1", "corr-1"));
+
+			assertEquals("user-1", UserContext.getUserId());
+			assertEquals("tenant-1", UserContext.getTenantId());
+			assertEquals("corr-1", UserContext.getCorrelationId());
+			assertEquals("tenant-1", MDC.get(UserContext.KEY_TENANT));
+		}
+
+		@Test
+		@DisplayName("Should restore the previous context after runWith")
+		void shouldRestorePreviousContextAfterRunWith() {
+			UserContext.set(RequestContext.of("outer", "tenant-outer", "corr-outer"));
+			AtomicReference<String> inner = new AtomicReference<>();
+
+			UserContext.runWith(RequestContext.of("inner", "tenant-inner", null), () -> inner.set(UserContext.getUserId()));
+
+			assertEquals("inner", inner.get());
+			assertEquals("outer", UserContext.getUserId());
+			assertEquals("outer", MDC.get(UserContext.KEY_USER));
+		}
+
+		@Test
+		@DisplayName("Should leave context empty after callWith on an unbound thread")
+		void shouldLeaveContextEmptyAfterCallWith() throws Exception {
+			String result = UserContext.callWith(RequestContext.of("user-1", "tenant-1", null), UserContext::getTenantId);
+
+			assertEquals("tenant-1", result);
+			assertNull(UserContext.getTenantId());
+			assertSame(RequestContext.EMPTY, UserContext.current());
+		}
+
+		@Test
+		@DisplayName("Should carry captured context into tasks run on other threads")
+		void shouldCarryCapturedContextIntoOtherThreads() throws Exception {
+			UserContext.set(RequestContext.of("user-1", "tenant-1", "corr-1"));
+			AtomicReference<RequestContext> seen = new AtomicReference<>();
+			AtomicReference<RequestContext> after = new AtomicReference<>();
+
+			Thread worker = Thread.ofVirtual().start(UserContext.wrap(() -> seen.set(UserContext.current())));
+			worker.join();
+			Thread probe = Thread.ofVirtual().start(() -> after.set(UserContext.current()));
+			probe.join();
+
+			assertEquals(RequestContext.of("user-1", "tenant-1", "corr-1"), seen.get());
+			assertSame(RequestContext.EMPTY, after.get());
+		}
+	}
+
 	@Nested
 	@DisplayName("Integration Tests")
 	class IntegrationTests {
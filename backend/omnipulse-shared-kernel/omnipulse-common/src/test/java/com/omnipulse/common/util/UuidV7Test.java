@@ -0,0 +1,79 @@
+package com.omnipulse.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+	@Test
+	@DisplayName("Should produce RFC 9562 version 7 UUIDs")
+	void shouldProduceVersion7Uuids() {
+		UUID uuid = UuidV7.next();
+
+		assertEquals(7, uuid.version());
+		assertEquals(2, uuid.variant());
+	}
+
+	@Test
+	@DisplayName("Should embed the current Unix millisecond timestamp")
+	void shouldEmbedCurrentTimestamp() {
+		long before = System.currentTimeMillis();
+		UUID uuid = UuidV7.next();
+		long after = System.currentTimeMillis();
+
+		long timestamp = UuidV7.timestampMillis(uuid);
+		assertTrue(timestamp >= before && timestamp <= after + 1);
+	}
+
+	@Test
+	@DisplayName("Should be strictly increasing in generation order")
+	void shouldBeStrictlyIncreasing() {
+		UUID previous = UuidV7.next();
+		for (int i = 0; i < 100_000; i++) {
+			UUID current = UuidV7.next();
+			assertTrue(compareUnsigned(previous, current) < 0);
+			assertTrue(previous.toString().compareTo(current.toString()) < 0);
+			previous = current;
+		}
+	}
+
+	@Test
+	@DisplayName("Should not produce duplicates across threads")
+	void shouldNotProduceDuplicatesAcrossThreads() throws Exception {
+		Set<UUID> seen = ConcurrentHashMap.newKeySet();
+		int perThread = 20_000;
+		List<Future<?>> futures = new ArrayList<>();
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < perThread; i++) {
+						seen.add(UuidV7.next());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+
+		assertEquals(8 * perThread, seen.size());
+	}
+
+	private static int compareUnsigned(UUID a, UUID b) {
+		int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+		return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+	}
+}
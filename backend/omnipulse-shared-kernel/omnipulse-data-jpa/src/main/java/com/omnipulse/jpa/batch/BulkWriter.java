@@ -0,0 +1,66 @@
+package com.omnipulse.jpa.batch;
+
+import com.omnipulse.jpa.config.DataJpaProperties;
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * Writes large numbers of entities in chunks of {@code omnipulse.jpa.batch.size}: every chunk is flushed as
+ * one JDBC batch per table and then detached, so the persistence context (and the dirty check on each flush)
+ * stays the size of a chunk instead of growing with the whole import.
+ * <p>
+ * Joins the caller's transaction. Because it clears the persistence context, entities the caller loaded
+ * earlier in that transaction are detached afterwards.
+ */
+@Component
+public class BulkWriter {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final int chunkSize;
+
+	public BulkWriter(DataJpaProperties properties) {
+		this.chunkSize = Math.max(1, properties.getBatch().getSize());
+	}
+
+	/**
+	 * Persists new entities; returns how many were written.
+	 */
+	@Transactional
+	public <T extends BaseEntity> int insertAll(Iterable<T> entities) {
+		return write(entities, entityManager::persist);
+	}
+
+	/**
+	 * Merges detached or changed entities; returns how many were written.
+	 */
+	@Transactional
+	public <T extends BaseEntity> int updateAll(Iterable<T> entities) {
+		return write(entities, entityManager::merge);
+	}
+
+	private <T extends BaseEntity> int write(Iterable<T> entities, Consumer<T> operation) {
+		int written = 0;
+		for (T entity : entities) {
+			operation.accept(entity);
+			if (++written % chunkSize == 0) {
+				flushAndClear();
+			}
+		}
+		if (written % chunkSize != 0) {
+			flushAndClear();
+		}
+		return written;
+	}
+
+	private void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
+	}
+}
@@ -0,0 +1,40 @@
+package com.omnipulse.jpa.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.cache.CacheManager;
+
+/**
+ * Publishes {@code cache.gets}, {@code cache.puts}, {@code cache.evictions} and {@code cache.removals}
+ * for every second-level cache region, tagged with {@code cache} = region name.
+ */
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+				.getCache()
+				.getRegionFactory();
+		if (!(regionFactory instanceof JCacheRegionFactory jCacheRegionFactory)) {
+			return;
+		}
+
+		CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+		for (String cacheName : cacheManager.getCacheNames()) {
+			// Regions created by Hibernate use a plain MutableConfiguration, which leaves statistics off
+			cacheManager.enableStatistics(cacheName, true);
+			JCacheMetrics.monitor(registry, cacheManager.getCache(cacheName), Tags.of("layer", "jpa"));
+		}
+	}
+}
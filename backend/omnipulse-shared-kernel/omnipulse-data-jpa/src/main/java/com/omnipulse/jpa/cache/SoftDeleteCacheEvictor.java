@@ -0,0 +1,53 @@
+package com.omnipulse.jpa.cache;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Drops soft-deleted entities from the second-level cache once the deleting transaction commits.
+ * Runs after Hibernate has written the updated state to the cache, so the deleted row never stays cached.
+ */
+public class SoftDeleteCacheEvictor implements Integrator, PostCommitUpdateEventListener {
+
+	@Override
+	public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+		sessionFactory.getServiceRegistry()
+				.requireService(EventListenerRegistry.class)
+				.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+	}
+
+	@Override
+	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		if (event.getEntity() instanceof BaseEntity entity && entity.isDeleted()) {
+			// Cache.evictEntityData builds a tenant-less key, so evict through the region with the session's tenant
+			EntityPersister persister = event.getPersister();
+			EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			Object cacheKey = cacheAccess.generateCacheKey(event.getId(), persister, persister.getFactory(),
+					event.getSession().getTenantIdentifier());
+			cacheAccess.evict(cacheKey);
+		}
+	}
+
+	@Override
+	public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return persister.canWriteToCache() && BaseEntity.class.isAssignableFrom(persister.getMappedClass());
+	}
+}
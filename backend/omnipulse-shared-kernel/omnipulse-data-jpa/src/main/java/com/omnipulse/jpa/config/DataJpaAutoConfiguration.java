@@ -1,9 +1,23 @@
 package com.omnipulse.jpa.config;
 
+import com.omnipulse.jpa.batch.BulkWriter;
+import com.omnipulse.jpa.softdelete.SoftDeleteScope;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
 
 @AutoConfiguration
-@ComponentScan(basePackages = "com.omnipulse.jpa")
+@Import({
+		JpaAuditingConfig.class,
+		JdbcBatchingConfig.class,
+		MultiTenancyConfig.class,
+		BulkWriter.class,
+		SoftDeleteScope.class,
+		SoftDeletePurgeConfig.class,
+		SecondLevelCacheConfig.class,
+		OutboxConfig.class,
+		ReadReplicaConfig.class
+})
+@EnableConfigurationProperties(DataJpaProperties.class)
 public class DataJpaAutoConfiguration {
 }
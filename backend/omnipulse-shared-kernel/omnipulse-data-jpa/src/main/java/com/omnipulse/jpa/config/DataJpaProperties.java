@@ -0,0 +1,106 @@
+package com.omnipulse.jpa.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.jpa")
+public class DataJpaProperties {
+
+	private final Cache cache = new Cache();
+	private final Batch batch = new Batch();
+	private final Audit audit = new Audit();
+	private final SoftDelete softDelete = new SoftDelete();
+	private final Outbox outbox = new Outbox();
+	private final ReadReplica readReplica = new ReadReplica();
+
+	@Data
+	public static class Cache {
+		/** Enables the Hibernate second-level cache for entities annotated with {@code @Cacheable}. */
+		private boolean enabled = false;
+		private boolean queryCache = true;
+		/** Classpath resource holding the Caffeine JCache configuration; region names are entity class names. */
+		private String configUri = "omnipulse-jcache.conf";
+	}
+
+	@Data
+	public static class Batch {
+		/** JDBC batch size for inserts, updates and deletes; also the chunk size of {@code BulkWriter}. */
+		private int size = 50;
+		/** Groups statements by entity type so a flush of mixed entities still batches. */
+		private boolean orderInserts = true;
+		private boolean orderUpdates = true;
+	}
+
+	@Data
+	public static class Audit {
+		/** Resolution of audit timestamps; one clock read is shared by every entity stamped in a flush. */
+		private Duration clockResolution = Duration.ofMillis(1);
+	}
+
+	@Data
+	public static class SoftDelete {
+		private final Purge purge = new Purge();
+
+		@Data
+		public static class Purge {
+			/** Hard-deletes rows whose {@code deleted_at} is older than {@link #retention}. */
+			private boolean enabled = false;
+			private Duration retention = Duration.ofDays(30);
+			/** Rows deleted per statement and transaction, keeping locks and undo/WAL per batch bounded. */
+			private int batchSize = 1000;
+			private Duration interval = Duration.ofHours(1);
+		}
+	}
+
+	@Data
+	public static class Outbox {
+		/** Registers the outbox entity, the {@code Outbox} writer and the poller; requires an {@code OutboxSink} bean. */
+		private boolean enabled = false;
+		/** Events claimed and sent per transaction. */
+		private int batchSize = 100;
+		/** Idle wait after a batch smaller than {@link #batchSize}. */
+		private Duration pollInterval = Duration.ofMillis(500);
+		/** Virtual-thread workers per instance; above 1, events of different batches may be sent out of order. */
+		private int concurrency = 1;
+		/**
+		 * Events rejected this many times are parked: no longer claimed, counted and logged as errors. With the
+		 * default backoff that is roughly two hours of retries.
+		 */
+		private int maxAttempts = 20;
+		/** Wait before the first retry of a rejected event, doubled for every further rejection. */
+		private Duration initialBackoff = Duration.ofSeconds(1);
+		private Duration maxBackoff = Duration.ofMinutes(10);
+		private Duration shutdownTimeout = Duration.ofSeconds(10);
+	}
+
+	@Data
+	public static class ReadReplica {
+		/** Routes {@code @Transactional(readOnly = true)} work to {@link #replicas}. */
+		private boolean enabled = false;
+		private List<Replica> replicas = new ArrayList<>();
+		/** Replicas lagging further behind are skipped until they catch up. */
+		private Duration maxLag = Duration.ofSeconds(5);
+		private Duration checkInterval = Duration.ofSeconds(5);
+		/** How long a lag check or read-only connection waits for a replica before skipping it. */
+		private Duration connectionTimeout = Duration.ofSeconds(2);
+		/**
+		 * Returns the replica lag in seconds; blank disables lag checks and only unreachable replicas are skipped.
+		 * The PostgreSQL default reports growing lag while the primary is idle, so size {@link #maxLag} for that.
+		 */
+		private String lagQuery = "SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)";
+
+		@Data
+		public static class Replica {
+			/** Used as the {@code replica} and {@code target} metric tag. */
+			private String name;
+			private String url;
+			private String username;
+			private String password;
+		}
+	}
+}
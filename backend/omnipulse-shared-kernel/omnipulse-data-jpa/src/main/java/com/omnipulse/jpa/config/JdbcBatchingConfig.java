@@ -0,0 +1,25 @@
+package com.omnipulse.jpa.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on Hibernate JDBC batching. {@code BaseEntity} ids are assigned before the insert, so nothing forces
+ * statement-at-a-time execution. Values set under {@code spring.jpa.properties} win.
+ */
+@Configuration
+public class JdbcBatchingConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchingCustomizer(DataJpaProperties properties) {
+		DataJpaProperties.Batch batch = properties.getBatch();
+		return hibernateProperties -> {
+			hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batch.getSize());
+			hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, batch.isOrderInserts());
+			hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, batch.isOrderUpdates());
+			hibernateProperties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+		};
+	}
+}
@@ -1,11 +1,28 @@
 package com.omnipulse.jpa.config;
 
 import com.omnipulse.jpa.domain.AuditAwareImpl;
+import com.omnipulse.jpa.domain.AuditingInterceptor;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.util.ClassUtils;
 
+import java.time.Clock;
+import java.util.function.Supplier;
+
+/**
+ * {@code BaseEntity} is audited by {@link AuditingInterceptor}. {@code @EnableJpaAuditing} stays for entities
+ * that still declare Spring's {@code AuditingEntityListener} themselves.
+ */
 @Configuration
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
 public class JpaAuditingConfig {
@@ -14,4 +31,63 @@ public class JpaAuditingConfig {
 	public AuditorAware<String> auditorProvider() {
 		return new AuditAwareImpl();
 	}
+
+	/**
+	 * Audit timestamps are truncated to {@code omnipulse.jpa.audit.clock-resolution}; declare a bean with this
+	 * name to supply another clock, e.g. a fixed one in tests. It is not a default candidate, so a service that
+	 * injects its own {@code Clock} by type never sees two.
+	 */
+	@Bean(defaultCandidate = false)
+	@ConditionalOnMissingBean(name = "auditingClock")
+	public Clock auditingClock(DataJpaProperties properties) {
+		return Clock.tick(Clock.systemDefaultZone(), properties.getAudit().getClockResolution());
+	}
+
+	/**
+	 * Hibernate honours a single interceptor per session, and a session-factory interceptor wins over the
+	 * session-scoped one. Whatever a service configured in either slot is therefore wrapped as the delegate of
+	 * the {@link AuditingInterceptor} rather than replaced, so audit columns are stamped either way.
+	 */
+	@Bean
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	public HibernatePropertiesCustomizer auditingInterceptorCustomizer(AuditorAware<String> auditorProvider,
+	                                                                   @Qualifier("auditingClock") Clock auditingClock) {
+		return hibernateProperties -> {
+			Interceptor shared = sessionFactoryInterceptor(hibernateProperties.remove(AvailableSettings.INTERCEPTOR));
+			Supplier<Interceptor> configured = sessionInterceptor(
+					hibernateProperties.get(AvailableSettings.SESSION_SCOPED_INTERCEPTOR));
+			// same precedence Hibernate applies: the session-factory interceptor wins when both are set
+			Supplier<Interceptor> perSession = () -> new AuditingInterceptor(auditorProvider, auditingClock,
+					shared != null ? shared : configured != null ? configured.get() : null);
+			hibernateProperties.put(AvailableSettings.SESSION_SCOPED_INTERCEPTOR, perSession);
+		};
+	}
+
+	private static Interceptor sessionFactoryInterceptor(Object setting) {
+		if (setting == null || setting instanceof Interceptor) {
+			return (Interceptor) setting;
+		}
+		return BeanUtils.instantiateClass(interceptorClass(setting));
+	}
+
+	private static Supplier<Interceptor> sessionInterceptor(Object setting) {
+		if (setting == null) {
+			return null;
+		}
+		if (setting instanceof Supplier<?> supplier) {
+			return () -> (Interceptor) supplier.get();
+		}
+		Class<? extends Interceptor> type = interceptorClass(setting);
+		return () -> BeanUtils.instantiateClass(type);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Class<? extends Interceptor> interceptorClass(Object setting) {
+		Class<?> type = setting instanceof Class<?> c ? c
+				: ClassUtils.resolveClassName(setting.toString(), JpaAuditingConfig.class.getClassLoader());
+		if (!Interceptor.class.isAssignableFrom(type)) {
+			throw new IllegalStateException(type.getName() + " is not a " + Interceptor.class.getName());
+		}
+		return (Class<? extends Interceptor>) type;
+	}
 }
@@ -0,0 +1,22 @@
+package com.omnipulse.jpa.config;
+
+import com.omnipulse.jpa.tenant.UserContextTenantIdentifierResolver;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opens every Hibernate session for the tenant in {@code UserContext}, which drives the {@code @TenantId}
+ * column of {@link com.omnipulse.jpa.domain.TenantScopedEntity} and the second-level cache keys.
+ * Services that configure their own resolver keep it.
+ */
+@Configuration
+public class MultiTenancyConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer tenantIdentifierResolverCustomizer() {
+		return hibernateProperties -> hibernateProperties.putIfAbsent(
+				AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new UserContextTenantIdentifierResolver());
+	}
+}
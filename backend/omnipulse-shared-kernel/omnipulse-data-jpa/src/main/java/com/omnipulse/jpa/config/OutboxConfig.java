@@ -0,0 +1,53 @@
+package com.omnipulse.jpa.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omnipulse.jpa.outbox.Outbox;
+import com.omnipulse.jpa.outbox.OutboxEvent;
+import com.omnipulse.jpa.outbox.OutboxPoller;
+import com.omnipulse.jpa.outbox.OutboxSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * Adds the outbox package to the auto-configuration packages so {@link OutboxEvent} is picked up by entity
+ * scanning without overriding the application's own scan.
+ */
+@Configuration
+@AutoConfigurationPackage(basePackageClasses = OutboxEvent.class)
+@ConditionalOnProperty(prefix = "omnipulse.jpa.outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+	@Bean
+	public Outbox outbox(ObjectProvider<ObjectMapper> objectMapper) {
+		return new Outbox(objectMapper.getIfAvailable(ObjectMapper::new));
+	}
+
+	/**
+	 * Stamps publication and retry times; declare a bean with this name to supply another clock. Like the
+	 * auditing clock it is not a default candidate.
+	 */
+	@Bean(defaultCandidate = false)
+	@ConditionalOnMissingBean(name = "outboxClock")
+	public Clock outboxClock() {
+		return Clock.systemDefaultZone();
+	}
+
+	@Bean
+	public OutboxPoller outboxPoller(PlatformTransactionManager transactionManager, OutboxSink sink,
+	                                 DataJpaProperties properties, ObjectProvider<MeterRegistry> meterRegistry,
+	                                 @Qualifier("outboxClock") Clock clock) {
+		return new OutboxPoller(new TransactionTemplate(transactionManager), sink, properties.getOutbox(),
+				meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), clock);
+	}
+}
@@ -0,0 +1,41 @@
+package com.omnipulse.jpa.config;
+
+import com.omnipulse.jpa.routing.ReadReplicaDataSourcePostProcessor;
+import com.omnipulse.jpa.routing.ReadReplicaRouting;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read-only transactions go to replicas; metrics are published through the application's meter registries.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "omnipulse.jpa.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+	@Bean
+	public static ReadReplicaDataSourcePostProcessor readReplicaDataSourcePostProcessor(
+			ObjectProvider<ReadReplicaRouting> routing) {
+		return new ReadReplicaDataSourcePostProcessor(routing);
+	}
+
+	@Bean
+	public ReadReplicaRouting readReplicaRouting(DataJpaProperties properties) {
+		return new ReadReplicaRouting(properties.getReadReplica());
+	}
+
+	/**
+	 * Spring holds a session's connection until the session closes, and with open-session-in-view a session
+	 * spans every transaction of a request: a write following a read-only transaction would reuse the replica
+	 * connection. Releasing it after each transaction makes every transaction route afresh.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer readReplicaConnectionHandlingCustomizer() {
+		return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+				PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+	}
+}
@@ -0,0 +1,49 @@
+package com.omnipulse.jpa.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.omnipulse.jpa.cache.SecondLevelCacheMetrics;
+import com.omnipulse.jpa.cache.SoftDeleteCacheEvictor;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Opt-in Hibernate second-level and query cache backed by a local Caffeine JCache provider.
+ * <p>
+ * The session tenant (see {@link MultiTenancyConfig}) is part of every entity and query cache key, so regions
+ * are effectively partitioned per tenant and a row cached for one tenant is never served to another.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "omnipulse.jpa.cache", name = "enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(DataJpaProperties properties) {
+		DataJpaProperties.Cache cache = properties.getCache();
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, cache.isQueryCache());
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			hibernateProperties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+			hibernateProperties.put(ConfigSettings.PROVIDER, CaffeineCachingProvider.class.getName());
+			hibernateProperties.put(ConfigSettings.CONFIG_URI, cache.getConfigUri());
+			hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+			hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER,
+					(IntegratorProvider) () -> List.of(new SoftDeleteCacheEvictor()));
+		};
+	}
+
+	@Bean
+	public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+		return new SecondLevelCacheMetrics(entityManagerFactory);
+	}
+}
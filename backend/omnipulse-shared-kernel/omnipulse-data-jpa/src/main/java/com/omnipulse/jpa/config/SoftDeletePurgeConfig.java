@@ -0,0 +1,47 @@
+package com.omnipulse.jpa.config;
+
+import com.omnipulse.jpa.softdelete.SoftDeletePurgeJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * Every instance runs the purge on its own schedule; concurrent runs only compete for the same bounded batches.
+ * The schedule is only picked up when the application enables scheduling ({@code @EnableScheduling}); otherwise
+ * call {@link SoftDeletePurgeJob#run()} from the service's own scheduler.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "omnipulse.jpa.soft-delete.purge", name = "enabled", havingValue = "true")
+public class SoftDeletePurgeConfig {
+
+	/**
+	 * Decides which tombstones are past the retention; declare a bean with this name to supply another clock.
+	 * Like the auditing clock it is not a default candidate.
+	 */
+	@Bean(defaultCandidate = false)
+	@ConditionalOnMissingBean(name = "softDeletePurgeClock")
+	public Clock softDeletePurgeClock() {
+		return Clock.systemDefaultZone();
+	}
+
+	@Bean
+	public SoftDeletePurgeJob softDeletePurgeJob(EntityManagerFactory entityManagerFactory,
+	                                             PlatformTransactionManager transactionManager,
+	                                             DataJpaProperties properties,
+	                                             ObjectProvider<MeterRegistry> meterRegistry,
+	                                             @Qualifier("softDeletePurgeClock") Clock clock) {
+		return new SoftDeletePurgeJob(entityManagerFactory, new TransactionTemplate(transactionManager),
+				properties.getSoftDelete().getPurge(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+				clock);
+	}
+}
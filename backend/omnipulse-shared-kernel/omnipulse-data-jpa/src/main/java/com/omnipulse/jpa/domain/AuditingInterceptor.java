@@ -0,0 +1,143 @@
+package com.omnipulse.jpa.domain;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Transaction;
+import org.hibernate.type.Type;
+import org.springframework.data.domain.AuditorAware;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Stamps the audit columns of {@link BaseEntity}. One instance lives per session, and it resolves the auditor
+ * and timestamp once per flush, in {@link #preFlush}: every entity inserted and every dirty entity in that flush
+ * share the same values, so a bulk write costs a couple of {@link AuditorAware} lookups and clock reads per
+ * chunk instead of per row, and a long-lived session never carries values over from an earlier flush.
+ * <p>
+ * Hibernate checks {@code NOT NULL} columns at persist time, so an entity persisted before a flush gets
+ * provisional values (resolved at the first such persist) and is remembered with its insert state; the flush
+ * overwrites both with its own values. Its insert is delayed to the flush anyway, as {@code BaseEntity} ids
+ * are assigned rather than generated by the database. Values are always written both to the entity and to the
+ * state array Hibernate is about to insert or update, so the next dirty check does not see the stamp as a
+ * change.
+ * <p>
+ * A service's own interceptor, if configured, is passed in as {@code delegate} and still sees every callback,
+ * after the audit columns are set.
+ */
+public class AuditingInterceptor extends ForwardingInterceptor {
+
+	private static final String SYSTEM_AUDITOR = "SYSTEM";
+
+	private static final String CREATED_AT = "createdAt";
+	private static final String CREATED_BY = "createdBy";
+	private static final String UPDATED_AT = "updatedAt";
+	private static final String UPDATED_BY = "updatedBy";
+
+	private final AuditorAware<String> auditorAware;
+	private final Clock clock;
+	private final List<PendingInsert> pendingInserts = new ArrayList<>();
+
+	private String auditor;
+	private LocalDateTime timestamp;
+	private boolean flushing;
+
+	public AuditingInterceptor(AuditorAware<String> auditorAware, Clock clock) {
+		this(auditorAware, clock, null);
+	}
+
+	public AuditingInterceptor(AuditorAware<String> auditorAware, Clock clock, Interceptor delegate) {
+		super(delegate);
+		this.auditorAware = auditorAware;
+		this.clock = clock;
+	}
+
+	@Override
+	public boolean onPersist(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		boolean stamped = false;
+		if (entity instanceof BaseEntity baseEntity) {
+			if (timestamp == null) {
+				resolve();
+			}
+			stampCreated(baseEntity, state, propertyNames);
+			if (!flushing) {
+				pendingInserts.add(new PendingInsert(baseEntity, state, propertyNames));
+			}
+			stamped = true;
+		}
+		return super.onPersist(entity, id, state, propertyNames, types) || stamped;
+	}
+
+	@Override
+	public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState,
+	                            String[] propertyNames, Type[] types) {
+		boolean stamped = false;
+		if (entity instanceof BaseEntity baseEntity) {
+			if (timestamp == null) {
+				resolve();
+			}
+			baseEntity.stampUpdated(auditor, timestamp);
+			set(currentState, propertyNames, UPDATED_AT, timestamp);
+			set(currentState, propertyNames, UPDATED_BY, auditor);
+			stamped = true;
+		}
+		return super.onFlushDirty(entity, id, currentState, previousState, propertyNames, types) || stamped;
+	}
+
+	@Override
+	public void preFlush(Iterator<Object> entities) {
+		resolve();
+		flushing = true;
+		for (PendingInsert pending : pendingInserts) {
+			stampCreated(pending.entity(), pending.state(), pending.propertyNames());
+		}
+		pendingInserts.clear();
+		super.preFlush(entities);
+	}
+
+	@Override
+	public void postFlush(Iterator<Object> entities) {
+		reset();
+		super.postFlush(entities);
+	}
+
+	@Override
+	public void afterTransactionCompletion(Transaction tx) {
+		reset();
+		pendingInserts.clear();
+		super.afterTransactionCompletion(tx);
+	}
+
+	private void stampCreated(BaseEntity entity, Object[] state, String[] propertyNames) {
+		entity.stampCreated(auditor, timestamp);
+		set(state, propertyNames, CREATED_AT, timestamp);
+		set(state, propertyNames, CREATED_BY, auditor);
+		set(state, propertyNames, UPDATED_AT, timestamp);
+		set(state, propertyNames, UPDATED_BY, auditor);
+	}
+
+	private void resolve() {
+		auditor = auditorAware.getCurrentAuditor().orElse(SYSTEM_AUDITOR);
+		timestamp = LocalDateTime.now(clock);
+	}
+
+	private void reset() {
+		flushing = false;
+		auditor = null;
+		timestamp = null;
+	}
+
+	private static void set(Object[] state, String[] propertyNames, String property, Object value) {
+		for (int i = 0; i < propertyNames.length; i++) {
+			if (property.equals(propertyNames[i])) {
+				state[i] = value;
+				return;
+			}
+		}
+	}
+
+	private record PendingInsert(BaseEntity entity, Object[] state, String[] propertyNames) {
+	}
+}
@@ -4,12 +4,9 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.hibernate.proxy.HibernateProxy;
-import org.springframework.data.annotation.CreatedBy;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedBy;
-import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -17,41 +14,59 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Rows are soft-deleted through {@link #markAsDeleted()}. The {@value #LIVE_ROWS_FILTER} filter is enabled in
+ * every session and hides them from queries and from lookups by id; use
+ * {@code com.omnipulse.jpa.softdelete.SoftDeleteScope} to read or restore deleted rows.
+ * <p>
+ * Lookups by id include the lazy loads behind {@code @ManyToOne} and {@code @OneToOne}: a live child whose
+ * parent was soft-deleted throws {@link EntityNotFoundException} when the parent is touched, so soft-delete
+ * children together with their parent or navigate to it inside {@code SoftDeleteScope#includingDeleted}.
+ * <p>
+ * Since every query carries {@code deleted_at IS NULL}, make the indexes partial on PostgreSQL so they only
+ * hold live rows and stay small as tombstones accumulate, e.g.
+ * <pre>
+ * CREATE INDEX ix_note_tenant_created ON note (tenant_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+ * CREATE INDEX ix_note_deleted_at ON note (deleted_at) WHERE deleted_at IS NOT NULL;
+ * </pre>
+ * The second index serves the tombstone purge.
+ */
 @Getter
 @Setter(AccessLevel.PROTECTED)
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@FilterDef(name = BaseEntity.LIVE_ROWS_FILTER, defaultCondition = "deleted_at IS NULL",
+		autoEnabled = true, applyToLoadByKey = true)
+@Filter(name = BaseEntity.LIVE_ROWS_FILTER)
 public abstract class BaseEntity implements Serializable {
 
 	@Serial
 	private static final long serialVersionUID = 1L;
 
+	public static final String LIVE_ROWS_FILTER = "liveRows";
+	public static final String DELETED_AT_COLUMN = "deleted_at";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Id
 	@Column(nullable = false, updatable = false)
 	private UUID id;
 
-	@CreatedDate
 	@Setter(AccessLevel.NONE)
 	@Column(nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
-	@CreatedBy
 	@Setter(AccessLevel.NONE)
 	@Column(nullable = false, updatable = false, length = 100)
 	private String createdBy;
 
-	@LastModifiedDate
 	@Setter(AccessLevel.NONE)
 	@Column(nullable = false)
 	private LocalDateTime updatedAt;
 
-	@LastModifiedBy
 	@Setter(AccessLevel.NONE)
 	@Column(nullable = false, length = 100)
 	private String updatedBy;
 
-	@Column(name = "deleted_at")
+	@Column(name = DELETED_AT_COLUMN)
 	private LocalDateTime deletedAt;
 
 	public void markAsDeleted() {
@@ -70,6 +85,18 @@ public abstract class BaseEntity implements Serializable {
 		return this.id != null;
 	}
 
+	/** Audit columns are written by {@link AuditingInterceptor}, once per flush rather than per entity. */
+	void stampCreated(String auditor, LocalDateTime timestamp) {
+		this.createdBy = auditor;
+		this.createdAt = timestamp;
+		stampUpdated(auditor, timestamp);
+	}
+
+	void stampUpdated(String auditor, LocalDateTime timestamp) {
+		this.updatedBy = auditor;
+		this.updatedAt = timestamp;
+	}
+
 	@Override
 	public final boolean equals(Object o) {
 		if (this == o) return true;
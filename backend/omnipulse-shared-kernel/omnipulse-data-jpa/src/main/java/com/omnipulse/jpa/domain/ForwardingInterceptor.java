@@ -0,0 +1,132 @@
+package com.omnipulse.jpa.domain;
+
+import org.hibernate.CallbackException;
+import org.hibernate.Interceptor;
+import org.hibernate.Transaction;
+import org.hibernate.metamodel.spi.EntityRepresentationStrategy;
+import org.hibernate.type.Type;
+
+import java.util.Iterator;
+
+/**
+ * Passes every callback Hibernate actually invokes to {@code delegate}, so an interceptor of our own can share
+ * the single session interceptor slot with one a service configured. Only the non-deprecated overloads are
+ * forwarded; the delegate's defaults route those to any deprecated overloads it still implements.
+ */
+public abstract class ForwardingInterceptor implements Interceptor {
+
+	private final Interceptor delegate;
+
+	protected ForwardingInterceptor(Interceptor delegate) {
+		this.delegate = delegate != null ? delegate : new Interceptor() {
+		};
+	}
+
+	@Override
+	public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		return delegate.onLoad(entity, id, state, propertyNames, types);
+	}
+
+	@Override
+	public boolean onPersist(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		return delegate.onPersist(entity, id, state, propertyNames, types);
+	}
+
+	@Override
+	public void onRemove(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		delegate.onRemove(entity, id, state, propertyNames, types);
+	}
+
+	@Override
+	public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState,
+	                            String[] propertyNames, Type[] types) {
+		return delegate.onFlushDirty(entity, id, currentState, previousState, propertyNames, types);
+	}
+
+	@Override
+	public void onCollectionRecreate(Object collection, Object key) {
+		delegate.onCollectionRecreate(collection, key);
+	}
+
+	@Override
+	public void onCollectionRemove(Object collection, Object key) {
+		delegate.onCollectionRemove(collection, key);
+	}
+
+	@Override
+	public void onCollectionUpdate(Object collection, Object key) {
+		delegate.onCollectionUpdate(collection, key);
+	}
+
+	@Override
+	public void preFlush(Iterator<Object> entities) {
+		delegate.preFlush(entities);
+	}
+
+	@Override
+	public void postFlush(Iterator<Object> entities) {
+		delegate.postFlush(entities);
+	}
+
+	@Override
+	public Boolean isTransient(Object entity) {
+		return delegate.isTransient(entity);
+	}
+
+	@Override
+	public int[] findDirty(Object entity, Object id, Object[] currentState, Object[] previousState,
+	                       String[] propertyNames, Type[] types) {
+		return delegate.findDirty(entity, id, currentState, previousState, propertyNames, types);
+	}
+
+	@Override
+	public Object instantiate(String entityName, EntityRepresentationStrategy representationStrategy, Object id)
+			throws CallbackException {
+		return delegate.instantiate(entityName, representationStrategy, id);
+	}
+
+	@Override
+	public String getEntityName(Object object) {
+		return delegate.getEntityName(object);
+	}
+
+	@Override
+	public Object getEntity(String entityName, Object id) {
+		return delegate.getEntity(entityName, id);
+	}
+
+	@Override
+	public void afterTransactionBegin(Transaction tx) {
+		delegate.afterTransactionBegin(tx);
+	}
+
+	@Override
+	public void beforeTransactionCompletion(Transaction tx) {
+		delegate.beforeTransactionCompletion(tx);
+	}
+
+	@Override
+	public void afterTransactionCompletion(Transaction tx) {
+		delegate.afterTransactionCompletion(tx);
+	}
+
+	@Override
+	public void onInsert(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		delegate.onInsert(entity, id, state, propertyNames, types);
+	}
+
+	@Override
+	public void onUpdate(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		delegate.onUpdate(entity, id, state, propertyNames, types);
+	}
+
+	@Override
+	public void onUpsert(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		delegate.onUpsert(entity, id, state, propertyNames, types);
+	}
+
+	@Override
+	public void onDelete(Object entity, Object id, String[] propertyNames, Type[] types) {
+		delegate.onDelete(entity, id, propertyNames, types);
+	}
+}
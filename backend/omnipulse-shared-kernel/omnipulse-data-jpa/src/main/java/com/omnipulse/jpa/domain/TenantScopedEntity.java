@@ -0,0 +1,42 @@
+package com.omnipulse.jpa.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import org.hibernate.annotations.TenantId;
+
+import java.io.Serial;
+
+/**
+ * Base for rows owned by a single tenant.
+ * <p>
+ * {@code tenant_id} is stamped from the session tenant on insert and every query, including lookups by id,
+ * gets a {@code tenant_id = ?} predicate. Work running without a tenant in {@code UserContext} reads and writes
+ * the {@code SYSTEM} tenant only; bind a tenant with {@code UserContext.runWith} to act on behalf of one.
+ * <p>
+ * Lead every secondary index with {@code tenant_id} so those predicates become index range scans, e.g.
+ * <pre>
+ * &#64;Table(name = "note", indexes = {
+ *     &#64;Index(name = "ix_note_tenant_created", columnList = TenantScopedEntity.TENANT_CREATED_INDEX),
+ *     &#64;Index(name = "ix_note_tenant_title", columnList = "tenant_id, title")
+ * })
+ * </pre>
+ * On PostgreSQL add {@code WHERE deleted_at IS NULL} to these indexes in the migration when the table is
+ * mostly read through live rows.
+ */
+@Getter
+@MappedSuperclass
+public abstract class TenantScopedEntity extends BaseEntity {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	public static final String TENANT_COLUMN = "tenant_id";
+
+	/** Matches {@code KeysetPagination.SORT}: newest first, with {@code id} as the tie-breaker. */
+	public static final String TENANT_CREATED_INDEX = "tenant_id, created_at DESC, id DESC";
+
+	@TenantId
+	@Column(name = TENANT_COLUMN, nullable = false, updatable = false, length = 100)
+	private String tenantId;
+}
@@ -0,0 +1,27 @@
+package com.omnipulse.jpa.domain;
+
+import com.omnipulse.common.util.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.io.Serial;
+import java.util.EnumSet;
+
+public class UuidV7IdGenerator implements BeforeExecutionGenerator {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+	                       EventType eventType) {
+		return UuidV7.next();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+}
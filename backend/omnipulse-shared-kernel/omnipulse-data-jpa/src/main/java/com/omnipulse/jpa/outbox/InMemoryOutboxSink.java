@@ -0,0 +1,25 @@
+package com.omnipulse.jpa.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects published events in memory; meant for tests and local runs.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+	private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void send(List<OutboxEvent> batch) {
+		events.addAll(batch);
+	}
+
+	public List<OutboxEvent> getEvents() {
+		return List.copyOf(events);
+	}
+
+	public void clear() {
+		events.clear();
+	}
+}
@@ -0,0 +1,49 @@
+package com.omnipulse.jpa.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records events for {@link OutboxPoller}. Must be called inside the transaction that makes the change, so the
+ * event commits or rolls back with it.
+ */
+public class Outbox {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final ObjectMapper objectMapper;
+
+	public Outbox(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * @param payload serialized as JSON; a {@link String} is stored as is
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public OutboxEvent append(String aggregateType, Object aggregateId, String eventType, Object payload) {
+		RequestContext context = UserContext.current();
+		OutboxEvent event = new OutboxEvent(aggregateType, String.valueOf(aggregateId), eventType, serialize(payload),
+				context.tenantId(), context.correlationId());
+		entityManager.persist(event);
+		return event;
+	}
+
+	private String serialize(Object payload) {
+		if (payload instanceof String json) {
+			return json;
+		}
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Outbox payload is not serializable: " + payload.getClass().getName(), e);
+		}
+	}
+}
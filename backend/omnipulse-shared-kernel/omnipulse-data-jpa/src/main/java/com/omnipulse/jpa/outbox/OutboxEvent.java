@@ -0,0 +1,81 @@
+package com.omnipulse.jpa.outbox;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+
+/**
+ * A domain event recorded in the same transaction as the change that caused it. Not tenant-scoped on purpose:
+ * the poller drains every tenant, and {@link #tenantId} travels with the event instead.
+ * <p>
+ * Published events are soft-deleted, so they drop out of the pending scan and are removed later by the
+ * tombstone purge. On PostgreSQL index pending rows only:
+ * {@code CREATE INDEX ix_outbox_event_pending ON outbox_event (created_at) WHERE deleted_at IS NULL}.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event", indexes = @Index(name = "ix_outbox_event_pending", columnList = "deleted_at, created_at"))
+public class OutboxEvent extends BaseEntity {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	@Column(nullable = false, updatable = false, length = 100)
+	private String aggregateType;
+
+	@Column(nullable = false, updatable = false, length = 100)
+	private String aggregateId;
+
+	@Column(nullable = false, updatable = false, length = 100)
+	private String eventType;
+
+	@Column(nullable = false, updatable = false, columnDefinition = "text")
+	private String payload;
+
+	@Column(updatable = false, length = 100)
+	private String tenantId;
+
+	@Column(updatable = false, length = 128)
+	private String correlationId;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(length = 500)
+	private String lastError;
+
+	/** Earliest time a rejected event is claimed again; {@code null} until the first rejection. */
+	private LocalDateTime nextAttemptAt;
+
+	private LocalDateTime publishedAt;
+
+	OutboxEvent(String aggregateType, String aggregateId, String eventType, String payload,
+	            String tenantId, String correlationId) {
+		this.aggregateType = aggregateType;
+		this.aggregateId = aggregateId;
+		this.eventType = eventType;
+		this.payload = payload;
+		this.tenantId = tenantId;
+		this.correlationId = correlationId;
+	}
+
+	void markPublished(LocalDateTime at) {
+		this.publishedAt = at;
+		markAsDeleted();
+	}
+
+	void markFailed(String error, LocalDateTime retryAt) {
+		this.attempts++;
+		this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+		this.nextAttemptAt = retryAt;
+	}
+}
@@ -0,0 +1,224 @@
+package com.omnipulse.jpa.outbox;
+
+import com.omnipulse.jpa.config.DataJpaProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains pending {@link OutboxEvent}s into the {@link OutboxSink}. Each worker is a virtual thread that claims a
+ * batch with {@code SELECT ... FOR UPDATE SKIP LOCKED}, sends it and marks it published in the same transaction,
+ * so workers on this and other instances never claim the same rows.
+ * <p>
+ * Events of one batch are sent in creation order; with more than one worker, ordering across batches is not
+ * guaranteed. When the sink rejects a batch its events are retried one by one, so a single poison event does
+ * not hold back the rest; each rejected event backs off exponentially before it is claimed again.
+ */
+@Slf4j
+public class OutboxPoller implements SmartLifecycle {
+
+	private static final String PENDING_QUERY =
+			"select e from OutboxEvent e where e.attempts < :maxAttempts"
+					+ " and (e.nextAttemptAt is null or e.nextAttemptAt <= :now) order by e.createdAt, e.id";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final TransactionTemplate transactionTemplate;
+	private final OutboxSink sink;
+	private final DataJpaProperties.Outbox properties;
+	private final Clock clock;
+
+	private final Timer publishedTimer;
+	private final Timer failedTimer;
+	private final DistributionSummary batchSize;
+	private final Counter publishedEvents;
+	private final Counter failedEvents;
+	private final Counter parkedEvents;
+
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running;
+
+	public OutboxPoller(TransactionTemplate transactionTemplate, OutboxSink sink, DataJpaProperties.Outbox properties,
+	                    MeterRegistry meterRegistry, Clock clock) {
+		this.transactionTemplate = transactionTemplate;
+		this.sink = sink;
+		this.properties = properties;
+		this.clock = clock;
+		this.publishedTimer = batchTimer(meterRegistry, "published");
+		this.failedTimer = batchTimer(meterRegistry, "failed");
+		this.batchSize = DistributionSummary.builder("omnipulse.jpa.outbox.batch.size")
+				.description("Events claimed per outbox batch")
+				.register(meterRegistry);
+		this.publishedEvents = eventCounter(meterRegistry, "published");
+		this.failedEvents = eventCounter(meterRegistry, "failed");
+		this.parkedEvents = eventCounter(meterRegistry, "parked");
+	}
+
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		for (int i = 0; i < properties.getConcurrency(); i++) {
+			workers.add(Thread.ofVirtual().name("outbox-poller-" + i).start(this::poll));
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		running = false;
+		workers.forEach(Thread::interrupt);
+		for (Thread worker : workers) {
+			try {
+				worker.join(properties.getShutdownTimeout());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		workers.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Claims and sends one batch. A rejected event stays pending with its attempt count raised and is not claimed
+	 * again before its backoff has passed; an event rejected {@code maxAttempts} times is parked, counted as
+	 * {@code outcome=parked} and logged as an error, and needs manual attention.
+	 *
+	 * @return number of events published
+	 */
+	public int drainOnce() {
+		Integer published = transactionTemplate.execute(status -> {
+			List<OutboxEvent> batch = entityManager.unwrap(Session.class)
+					.createSelectionQuery(PENDING_QUERY, OutboxEvent.class)
+					.setParameter("maxAttempts", properties.getMaxAttempts())
+					.setParameter("now", LocalDateTime.now(clock))
+					.setMaxResults(properties.getBatchSize())
+					.setHibernateLockMode(LockMode.UPGRADE_SKIPLOCKED)
+					.getResultList();
+			return batch.isEmpty() ? 0 : send(batch);
+		});
+		return published == null ? 0 : published;
+	}
+
+	private int send(List<OutboxEvent> batch) {
+		batchSize.record(batch.size());
+		long start = System.nanoTime();
+		try {
+			sink.send(batch);
+		} catch (Exception e) {
+			failedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			if (batch.size() == 1) {
+				reject(batch.getFirst(), e);
+				return 0;
+			}
+			log.warn("Outbox sink rejected a batch of {} events, retrying them one by one: {}", batch.size(), e.toString());
+			return sendEach(batch);
+		}
+		publishedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		markPublished(batch);
+		return batch.size();
+	}
+
+	private int sendEach(List<OutboxEvent> batch) {
+		int published = 0;
+		for (OutboxEvent event : batch) {
+			List<OutboxEvent> single = List.of(event);
+			try {
+				sink.send(single);
+			} catch (Exception e) {
+				reject(event, e);
+				continue;
+			}
+			markPublished(single);
+			published++;
+		}
+		return published;
+	}
+
+	private void markPublished(List<OutboxEvent> events) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		events.forEach(event -> event.markPublished(now));
+		publishedEvents.increment(events.size());
+	}
+
+	private void reject(OutboxEvent event, Exception e) {
+		event.markFailed(e.toString(), LocalDateTime.now(clock).plus(backoff(event.getAttempts() + 1)));
+		failedEvents.increment();
+		if (event.getAttempts() >= properties.getMaxAttempts()) {
+			parkedEvents.increment();
+			log.error("Outbox event {} ({} {}) was rejected {} times and is parked: {}", event.getId(),
+					event.getEventType(), event.getAggregateId(), event.getAttempts(), e.toString());
+		}
+	}
+
+	/**
+	 * {@code initialBackoff} doubled per attempt, capped at {@code maxBackoff}.
+	 */
+	private Duration backoff(int attempt) {
+		Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempt - 1, 30));
+		return backoff.compareTo(properties.getMaxBackoff()) < 0 ? backoff : properties.getMaxBackoff();
+	}
+
+	private void poll() {
+		while (running) {
+			int published;
+			try {
+				published = drainOnce();
+			} catch (RuntimeException e) {
+				if (!running) {
+					return;
+				}
+				log.error("Outbox poll failed", e);
+				published = 0;
+			}
+			if (published < properties.getBatchSize() && !sleep()) {
+				return;
+			}
+		}
+	}
+
+	private boolean sleep() {
+		try {
+			Thread.sleep(properties.getPollInterval());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static Timer batchTimer(MeterRegistry registry, String outcome) {
+		return Timer.builder("omnipulse.jpa.outbox.batch")
+				.description("Time spent sending one outbox batch")
+				.tag("outcome", outcome)
+				.register(registry);
+	}
+
+	private static Counter eventCounter(MeterRegistry registry, String outcome) {
+		return Counter.builder("omnipulse.jpa.outbox.events")
+				.tag("outcome", outcome)
+				.register(registry);
+	}
+}
@@ -0,0 +1,16 @@
+package com.omnipulse.jpa.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of outbox events (a broker, a webhook dispatcher, ...). Delivery is at-least-once: a batch is
+ * marked published only after {@link #send} returns; when it throws, its events are sent again one at a time, so
+ * events of a partly delivered batch arrive twice and consumers must be idempotent on {@link OutboxEvent#getId()}.
+ * <p>
+ * Called while the batch rows are locked; keep it bounded by a timeout.
+ */
+@FunctionalInterface
+public interface OutboxSink {
+
+	void send(List<OutboxEvent> batch) throws Exception;
+}
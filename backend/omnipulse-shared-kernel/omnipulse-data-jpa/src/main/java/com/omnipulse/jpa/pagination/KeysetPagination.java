@@ -0,0 +1,70 @@
+package com.omnipulse.jpa.pagination;
+
+import com.omnipulse.common.dto.response.SlicedResponse;
+import com.omnipulse.common.util.KeysetCursor;
+import com.omnipulse.jpa.domain.BaseEntity;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seek pagination over {@code (createdAt, id)} of {@link BaseEntity}, newest first.
+ * Back it with an index ending in {@code created_at, id} (see {@code TenantScopedEntity.TENANT_CREATED_INDEX}).
+ */
+@UtilityClass
+public class KeysetPagination {
+
+	public static final String CREATED_AT = "createdAt";
+	public static final String ID = "id";
+	public static final Sort SORT = Sort.by(Sort.Direction.DESC, CREATED_AT, ID);
+	public static final int MAX_SIZE = 500;
+
+	/**
+	 * Rows strictly after the cursor in {@link #SORT} order. The redundant {@code created_at <= ?} bound is what lets
+	 * the database start the index range at the cursor; the OR-expanded tie-break alone is only applied as a filter.
+	 */
+	public static <T extends BaseEntity> Specification<T> after(String cursor) {
+		KeysetCursor decoded = KeysetCursor.decode(cursor);
+		if (decoded == null) {
+			return (root, query, builder) -> null;
+		}
+		return (root, query, builder) -> {
+			var createdAt = root.<LocalDateTime>get(CREATED_AT);
+			var id = root.<UUID>get(ID);
+			return builder.and(
+					builder.lessThanOrEqualTo(createdAt, decoded.createdAt()),
+					builder.or(
+							builder.lessThan(createdAt, decoded.createdAt()),
+							builder.and(builder.equal(createdAt, decoded.createdAt()), builder.lessThan(id, decoded.id()))));
+		};
+	}
+
+	public static int limitOf(int size) {
+		return Math.clamp(size, 1, MAX_SIZE);
+	}
+
+	/**
+	 * @param rows up to {@code limit + 1} rows; the extra one only signals that another slice exists
+	 */
+	public static <T extends BaseEntity> SlicedResponse<T> toResponse(List<T> rows, int limit, Long totalElements) {
+		boolean hasNext = rows.size() > limit;
+		List<T> content = hasNext ? rows.subList(0, limit) : rows;
+		String nextCursor = null;
+		if (hasNext) {
+			T last = content.getLast();
+			nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+		}
+
+		return SlicedResponse.<T>builder()
+				.content(content)
+				.size(content.size())
+				.hasNext(hasNext)
+				.nextCursor(nextCursor)
+				.totalElements(totalElements)
+				.build();
+	}
+}
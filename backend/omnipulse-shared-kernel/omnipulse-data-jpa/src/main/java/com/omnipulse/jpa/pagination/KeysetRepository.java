@@ -0,0 +1,33 @@
+package com.omnipulse.jpa.pagination;
+
+import com.omnipulse.common.dto.response.SlicedResponse;
+import com.omnipulse.jpa.domain.BaseEntity;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adds cursor pagination to a repository. Each slice is a single seek query with {@code LIMIT n + 1};
+ * the {@code COUNT(*)} only runs when {@code includeTotal} is set.
+ */
+@NoRepositoryBean
+public interface KeysetRepository<T extends BaseEntity> extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
+
+	default SlicedResponse<T> findSlice(Specification<T> specification, String cursor, int size, boolean includeTotal) {
+		int limit = KeysetPagination.limitOf(size);
+		List<T> rows = findBy(specification.and(KeysetPagination.after(cursor)), query -> query
+				.sortBy(KeysetPagination.SORT)
+				.limit(limit + 1)
+				.all());
+		Long total = includeTotal ? count(specification) : null;
+		return KeysetPagination.toResponse(rows, limit, total);
+	}
+
+	default SlicedResponse<T> findSlice(String cursor, int size, boolean includeTotal) {
+		return findSlice((root, query, builder) -> null, cursor, size, includeTotal);
+	}
+}
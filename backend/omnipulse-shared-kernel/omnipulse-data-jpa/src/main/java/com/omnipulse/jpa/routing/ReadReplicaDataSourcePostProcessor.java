@@ -0,0 +1,28 @@
+package com.omnipulse.jpa.routing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's primary {@code dataSource} bean, leaving any other data source untouched.
+ */
+public class ReadReplicaDataSourcePostProcessor implements BeanPostProcessor {
+
+	static final String DATA_SOURCE_BEAN = "dataSource";
+
+	private final ObjectProvider<ReadReplicaRouting> routing;
+
+	public ReadReplicaDataSourcePostProcessor(ObjectProvider<ReadReplicaRouting> routing) {
+		this.routing = routing;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+			return routing.getObject().wrap(dataSource);
+		}
+		return bean;
+	}
+}
@@ -0,0 +1,231 @@
+package com.omnipulse.jpa.routing;
+
+import com.omnipulse.jpa.config.DataJpaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of {@code @Transactional(readOnly = true)} work to replicas, round-robin. The primary is
+ * wrapped in a {@link LazyConnectionDataSourceProxy}, which defers picking a target until the first statement,
+ * by when the current transaction has been marked read-only. The pick is made per physical connection, so the
+ * session must release it after every transaction; {@code ReadReplicaConfig} sets Hibernate up that way.
+ * <p>
+ * A replica is skipped while its lag exceeds {@code max-lag} or it refuses connections; with every replica
+ * skipped, read-only work falls back to the primary. Replicas start out skipped: {@link #start()} checks them
+ * once, in a {@link #PHASE phase} before the embedded web server starts, and then every {@code check-interval}
+ * on a virtual thread. Each check waits at most {@code connection-timeout} for an unreachable replica.
+ */
+@Slf4j
+public class ReadReplicaRouting implements MeterBinder, SmartLifecycle, AutoCloseable {
+
+	static final String PRIMARY = "primary";
+
+	/** Ahead of Boot's web server start/stop lifecycle, which runs at {@code DEFAULT_PHASE - 2048}. */
+	public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+	private final List<Replica> replicas;
+	private final DataJpaProperties.ReadReplica properties;
+	private final AtomicInteger next = new AtomicInteger();
+	private final LongAdder fallbacks = new LongAdder();
+
+	private Thread checker;
+	private volatile boolean running;
+
+	public ReadReplicaRouting(DataJpaProperties.ReadReplica properties) {
+		this.properties = properties;
+		this.replicas = properties.getReplicas().stream()
+				.map(replica -> new Replica(replica.getName(), pool(replica, properties)))
+				.toList();
+	}
+
+	private static HikariDataSource pool(DataJpaProperties.ReadReplica.Replica replica,
+										 DataJpaProperties.ReadReplica properties) {
+		HikariDataSource pool = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(replica.getUrl())
+				.username(replica.getUsername())
+				.password(replica.getPassword())
+				.build();
+		pool.setPoolName("read-replica-" + replica.getName());
+		pool.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+		return pool;
+	}
+
+	public DataSource wrap(DataSource primary) {
+		return new LazyConnectionDataSourceProxy(new TransactionRoutingDataSource(primary));
+	}
+
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		refreshLag();
+		running = true;
+		checker = Thread.ofVirtual().name("read-replica-lag-check").start(this::checkPeriodically);
+	}
+
+	@Override
+	public int getPhase() {
+		return PHASE;
+	}
+
+	@Override
+	public synchronized void stop() {
+		running = false;
+		if (checker != null) {
+			checker.interrupt();
+			checker = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	public void refreshLag() {
+		replicas.forEach(this::refreshLag);
+	}
+
+	private void checkPeriodically() {
+		while (running) {
+			try {
+				Thread.sleep(properties.getCheckInterval());
+			} catch (InterruptedException e) {
+				return;
+			}
+			try {
+				refreshLag();
+			} catch (RuntimeException e) {
+				log.warn("Read replica lag check failed", e);
+			}
+		}
+	}
+
+	private void refreshLag(Replica replica) {
+		try (Connection connection = replica.dataSource.getConnection()) {
+			double lag = StringUtils.hasText(properties.getLagQuery()) ? queryLag(connection) : 0;
+			replica.lagSeconds = lag;
+			replica.healthy = lag <= properties.getMaxLag().toMillis() / 1000.0;
+		} catch (SQLException e) {
+			replica.lagSeconds = Double.NaN;
+			replica.healthy = false;
+			log.warn("Read replica {} is unavailable: {}", replica.name, e.getMessage());
+		}
+	}
+
+	private double queryLag(Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement();
+		     ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+			return resultSet.next() ? resultSet.getDouble(1) : 0;
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("omnipulse.jpa.routing.read-only.connections", fallbacks, LongAdder::sum)
+				.description("Read-only connections by target; primary counts replica fallbacks")
+				.tag("target", PRIMARY)
+				.register(registry);
+		for (Replica replica : replicas) {
+			FunctionCounter.builder("omnipulse.jpa.routing.read-only.connections", replica.connections, LongAdder::sum)
+					.description("Read-only connections by target; primary counts replica fallbacks")
+					.tag("target", replica.name)
+					.register(registry);
+			Gauge.builder("omnipulse.jpa.routing.replica.lag", replica, r -> r.lagSeconds)
+					.tag("replica", replica.name)
+					.baseUnit("seconds")
+					.register(registry);
+			Gauge.builder("omnipulse.jpa.routing.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+					.tag("replica", replica.name)
+					.register(registry);
+		}
+	}
+
+	@Override
+	public void close() {
+		replicas.forEach(replica -> replica.dataSource.close());
+	}
+
+	private Connection connect(DataSource primary, String username, String password) throws SQLException {
+		int size = replicas.size();
+		int start = Math.floorMod(next.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (!replica.healthy) {
+				continue;
+			}
+			try {
+				Connection connection = username == null
+						? replica.dataSource.getConnection()
+						: replica.dataSource.getConnection(username, password);
+				replica.connections.increment();
+				return connection;
+			} catch (SQLException e) {
+				replica.healthy = false;
+				log.warn("Read replica {} refused a connection, skipping it until the next lag check: {}",
+						replica.name, e.getMessage());
+			}
+		}
+		fallbacks.increment();
+		return username == null ? primary.getConnection() : primary.getConnection(username, password);
+	}
+
+	private static final class Replica {
+
+		private final String name;
+		private final HikariDataSource dataSource;
+		private final LongAdder connections = new LongAdder();
+		private volatile boolean healthy;
+		private volatile double lagSeconds = Double.NaN;
+
+		private Replica(String name, HikariDataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+	}
+
+	/**
+	 * Delegates everything but read-only connections to the primary, so unwrapping still reaches the pool.
+	 */
+	private final class TransactionRoutingDataSource extends DelegatingDataSource {
+
+		private TransactionRoutingDataSource(DataSource primary) {
+			super(primary);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+					? connect(obtainTargetDataSource(), null, null)
+					: super.getConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+					? connect(obtainTargetDataSource(), username, password)
+					: super.getConnection(username, password);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.omnipulse.jpa.softdelete;
+
+import com.omnipulse.jpa.config.DataJpaProperties;
+import com.omnipulse.jpa.domain.BaseEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hard-deletes soft-deleted rows once they are older than the retention, one bounded batch per transaction so
+ * the purge never holds long locks or produces one huge transaction. Uses native SQL, which bypasses the
+ * live-rows filter and {@code @TenantId}, so a single run covers every tenant.
+ * <p>
+ * Only hierarchy root tables are purged; child tables with foreign keys to them need {@code ON DELETE CASCADE}.
+ */
+@Slf4j
+public class SoftDeletePurgeJob {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final TransactionTemplate transactionTemplate;
+	private final DataJpaProperties.SoftDelete.Purge properties;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+
+	private volatile List<Target> targets;
+
+	public SoftDeletePurgeJob(EntityManagerFactory entityManagerFactory, TransactionTemplate transactionTemplate,
+	                          DataJpaProperties.SoftDelete.Purge properties, MeterRegistry meterRegistry, Clock clock) {
+		this.entityManagerFactory = entityManagerFactory;
+		this.transactionTemplate = transactionTemplate;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+	}
+
+	@Scheduled(initialDelayString = "${omnipulse.jpa.soft-delete.purge.interval:PT1H}",
+			fixedDelayString = "${omnipulse.jpa.soft-delete.purge.interval:PT1H}")
+	public void run() {
+		purgeOlderThan(LocalDateTime.now(clock).minus(properties.getRetention()));
+	}
+
+	/**
+	 * @return number of rows removed across all tables
+	 */
+	public long purgeOlderThan(LocalDateTime cutoff) {
+		long total = 0;
+		for (Target target : targets()) {
+			long purged = 0;
+			int deleted;
+			do {
+				deleted = deleteBatch(target, cutoff);
+				purged += deleted;
+			} while (deleted == properties.getBatchSize());
+			if (purged > 0) {
+				target.purged().increment(purged);
+				log.info("Purged {} soft-deleted rows from {} (deleted before {})", purged, target.table(), cutoff);
+			}
+			total += purged;
+		}
+		return total;
+	}
+
+	private int deleteBatch(Target target, LocalDateTime cutoff) {
+		Integer deleted = transactionTemplate.execute(status -> entityManager.createNativeQuery(target.sql())
+				.setParameter(1, cutoff)
+				.unwrap(NativeQuery.class)
+				// Only this entity's cache region is invalidated, not the whole second-level cache
+				.addSynchronizedEntityClass(target.entityClass())
+				.executeUpdate());
+		return deleted == null ? 0 : deleted;
+	}
+
+	private List<Target> targets() {
+		List<Target> resolved = targets;
+		if (resolved == null) {
+			resolved = new ArrayList<>();
+			List<Target> collected = resolved;
+			entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+					.forEachEntityDescriptor(descriptor -> {
+						if (descriptor instanceof AbstractEntityPersister persister
+								&& BaseEntity.class.isAssignableFrom(persister.getMappedClass())
+								&& persister.getEntityName().equals(persister.getRootEntityName())) {
+							collected.add(target(persister));
+						}
+					});
+			targets = resolved = List.copyOf(collected);
+		}
+		return resolved;
+	}
+
+	private Target target(AbstractEntityPersister persister) {
+		String table = persister.getTableName();
+		String id = persister.getIdentifierColumnNames()[0];
+		String sql = "DELETE FROM " + table + " WHERE " + id + " IN (SELECT " + id + " FROM " + table
+				+ " WHERE " + BaseEntity.DELETED_AT_COLUMN + " < ?1 ORDER BY " + BaseEntity.DELETED_AT_COLUMN
+				+ " FETCH FIRST " + properties.getBatchSize() + " ROWS ONLY)";
+		Counter purged = Counter.builder("omnipulse.jpa.softdelete.purged")
+				.description("Soft-deleted rows removed by the purge job")
+				.tag("table", table)
+				.register(meterRegistry);
+		return new Target(persister.getMappedClass(), table, sql, purged);
+	}
+
+	private record Target(Class<?> entityClass, String table, String sql, Counter purged) {
+	}
+}
@@ -0,0 +1,36 @@
+package com.omnipulse.jpa.softdelete;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * Explicit opt-out of the {@value BaseEntity#LIVE_ROWS_FILTER} filter. The work runs in a transaction so every
+ * repository call inside it shares the session on which the filter is switched off; the previous state is put
+ * back afterwards, so nested calls are safe.
+ */
+@Component
+public class SoftDeleteScope {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Transactional
+	public <T> T includingDeleted(Supplier<T> work) {
+		Session session = entityManager.unwrap(Session.class);
+		boolean wasEnabled = session.getEnabledFilter(BaseEntity.LIVE_ROWS_FILTER) != null;
+		session.disableFilter(BaseEntity.LIVE_ROWS_FILTER);
+		try {
+			return work.get();
+		} finally {
+			if (wasEnabled) {
+				session.enableFilter(BaseEntity.LIVE_ROWS_FILTER);
+			}
+		}
+	}
+}
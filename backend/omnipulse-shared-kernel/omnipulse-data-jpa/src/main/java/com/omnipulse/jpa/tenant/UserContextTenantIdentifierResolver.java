@@ -0,0 +1,24 @@
+package com.omnipulse.jpa.tenant;
+
+import com.omnipulse.common.util.UserContext;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Binds every Hibernate session to the tenant of the current {@link UserContext}.
+ * Work running outside a tenant (schedulers, startup tasks) is attributed to {@link #SYSTEM_TENANT}.
+ */
+public class UserContextTenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+	public static final String SYSTEM_TENANT = "SYSTEM";
+
+	@Override
+	public String resolveCurrentTenantIdentifier() {
+		String tenantId = UserContext.getTenantId();
+		return tenantId == null || tenantId.isBlank() ? SYSTEM_TENANT : tenantId;
+	}
+
+	@Override
+	public boolean validateExistingCurrentSessions() {
+		return false;
+	}
+}
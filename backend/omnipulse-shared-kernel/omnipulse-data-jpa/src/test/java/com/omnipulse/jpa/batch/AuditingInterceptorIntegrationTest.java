@@ -0,0 +1,180 @@
+package com.omnipulse.jpa.batch;
+
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.jpa.domain.AuditAwareImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Interceptor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.session_factory.session_scoped_interceptor="
+				+ "com.omnipulse.jpa.batch.AuditingInterceptorIntegrationTest$ServiceInterceptor",
+		"omnipulse.jpa.batch.size=50"
+})
+class AuditingInterceptorIntegrationTest {
+
+	private static final Instant T0 = Instant.parse("2025-03-01T10:00:00Z");
+	private static final AtomicReference<Instant> NOW = new AtomicReference<>(T0);
+	private static final AtomicInteger AUDITOR_LOOKUPS = new AtomicInteger();
+	private static final AtomicInteger SERVICE_INTERCEPTOR_PERSISTS = new AtomicInteger();
+
+	@Autowired
+	private BulkWriter bulkWriter;
+
+	@Autowired
+	private BulkRecordRepository repository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		repository.deleteAllInBatch();
+		NOW.set(T0);
+		AUDITOR_LOOKUPS.set(0);
+		SERVICE_INTERCEPTOR_PERSISTS.set(0);
+		UserContext.setUserId("importer");
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void insertAll_ShouldResolveAuditorPerFlushedChunkNotPerRow() {
+		List<BulkRecord> records = IntStream.range(0, 120).mapToObj(i -> new BulkRecord("row-" + i)).toList();
+
+		bulkWriter.insertAll(records);
+
+		// three chunks: a provisional lookup at each chunk's first persist, the final one at its flush
+		assertEquals(6, AUDITOR_LOOKUPS.get());
+		LocalDateTime expected = LocalDateTime.ofInstant(T0, ZoneOffset.UTC);
+		assertTrue(repository.findAll().stream().allMatch(record ->
+				"importer".equals(record.getCreatedBy()) && "importer".equals(record.getUpdatedBy())
+						&& expected.equals(record.getCreatedAt()) && expected.equals(record.getUpdatedAt())));
+	}
+
+	@Test
+	void save_DirtyEntity_ShouldStampUpdateOnlyAndNotStayDirty() {
+		BulkRecord record = repository.save(new BulkRecord("original"));
+		NOW.set(T0.plusSeconds(60));
+		UserContext.setUserId("editor");
+
+		record.setPayload("changed");
+		record = repository.save(record);
+		repository.save(record);
+
+		BulkRecord reloaded = repository.findById(record.getId()).orElseThrow();
+		assertEquals("importer", reloaded.getCreatedBy());
+		assertEquals(LocalDateTime.ofInstant(T0, ZoneOffset.UTC), reloaded.getCreatedAt());
+		assertEquals("editor", reloaded.getUpdatedBy());
+		assertEquals(LocalDateTime.ofInstant(T0.plusSeconds(60), ZoneOffset.UTC), reloaded.getUpdatedAt());
+		assertEquals(1, statistics.getEntityUpdateCount());
+	}
+
+	@Test
+	void persist_ShouldBeStampedWithTheAuditorAndTimeOfTheFlush() {
+		BulkRecord record = transactionTemplate.execute(status -> {
+			BulkRecord pending = new BulkRecord("late");
+			entityManager.persist(pending);
+			NOW.set(T0.plusSeconds(300));
+			UserContext.setUserId("batch-step-2");
+			entityManager.flush();
+			return pending;
+		});
+
+		BulkRecord reloaded = repository.findById(record.getId()).orElseThrow();
+		assertEquals("batch-step-2", reloaded.getCreatedBy());
+		assertEquals(LocalDateTime.ofInstant(T0.plusSeconds(300), ZoneOffset.UTC), reloaded.getCreatedAt());
+	}
+
+	@Test
+	void serviceInterceptor_ShouldStillRunAlongsideAuditing() {
+		BulkRecord record = repository.save(new BulkRecord("with-service-interceptor"));
+
+		assertEquals(1, SERVICE_INTERCEPTOR_PERSISTS.get());
+		assertEquals("importer", repository.findById(record.getId()).orElseThrow().getCreatedBy());
+	}
+
+	public static class ServiceInterceptor implements Interceptor {
+
+		@Override
+		public boolean onPersist(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+			SERVICE_INTERCEPTOR_PERSISTS.incrementAndGet();
+			return false;
+		}
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class TestApplication {
+
+		@Bean
+		@Primary
+		AuditorAware<String> countingAuditorProvider() {
+			AuditorAware<String> delegate = new AuditAwareImpl();
+			return () -> {
+				AUDITOR_LOOKUPS.incrementAndGet();
+				return delegate.getCurrentAuditor();
+			};
+		}
+
+		@Bean
+		Clock auditingClock() {
+			return new Clock() {
+				@Override
+				public ZoneId getZone() {
+					return ZoneOffset.UTC;
+				}
+
+				@Override
+				public Clock withZone(ZoneId zone) {
+					return this;
+				}
+
+				@Override
+				public Instant instant() {
+					return NOW.get();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.omnipulse.jpa.batch;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@Table(name = "bulk_record")
+public class BulkRecord extends BaseEntity {
+
+	private String payload;
+
+	public BulkRecord(String payload) {
+		this.payload = payload;
+	}
+}
@@ -0,0 +1,8 @@
+package com.omnipulse.jpa.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface BulkRecordRepository extends JpaRepository<BulkRecord, UUID> {
+}
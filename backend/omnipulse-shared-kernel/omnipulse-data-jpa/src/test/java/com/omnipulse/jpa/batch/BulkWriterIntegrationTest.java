@@ -0,0 +1,110 @@
+package com.omnipulse.jpa.batch;
+
+import com.omnipulse.common.util.UuidV7;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"omnipulse.jpa.batch.size=50"
+})
+class BulkWriterIntegrationTest {
+
+	@Autowired
+	private BulkWriter bulkWriter;
+
+	@Autowired
+	private BulkRecordRepository repository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private Clock clock;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		repository.deleteAllInBatch();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void insertAll_ShouldWriteOneJdbcBatchPerChunk() {
+		List<BulkRecord> records = records(120);
+
+		int written = bulkWriter.insertAll(records);
+
+		assertEquals(120, written);
+		assertEquals(120, statistics.getEntityInsertCount());
+		// 50 + 50 + 20: one prepared INSERT per flushed chunk instead of one per row
+		assertEquals(3, statistics.getPrepareStatementCount());
+		assertEquals(120, repository.count());
+	}
+
+	@Test
+	void insertAll_ShouldAssignTimeOrderedUuidV7Ids() {
+		List<BulkRecord> records = records(10);
+		long before = System.currentTimeMillis();
+
+		bulkWriter.insertAll(records);
+
+		for (int i = 0; i < records.size(); i++) {
+			BulkRecord record = records.get(i);
+			assertEquals(7, record.getId().version());
+			assertTrue(UuidV7.timestampMillis(record.getId()) >= before);
+			assertNotNull(record.getCreatedAt());
+			if (i > 0) {
+				// Database order: unsigned, most significant half first (UUID.compareTo is signed)
+				assertTrue(record.getId().toString().compareTo(records.get(i - 1).getId().toString()) > 0);
+			}
+		}
+	}
+
+	@Test
+	void updateAll_ShouldMergeDetachedEntities() {
+		List<BulkRecord> records = records(60);
+		bulkWriter.insertAll(records);
+		records.forEach(record -> record.setPayload("updated"));
+
+		assertEquals(60, bulkWriter.updateAll(records));
+
+		assertTrue(repository.findAll().stream().allMatch(record -> "updated".equals(record.getPayload())));
+	}
+
+	@Test
+	void auditingClock_ShouldNotCompeteWithAServiceClockInjectedByType() {
+		assertEquals(ZoneOffset.ofHours(2), clock.getZone());
+	}
+
+	private static List<BulkRecord> records(int count) {
+		return IntStream.range(0, count).mapToObj(i -> new BulkRecord("row-" + i)).toList();
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class TestApplication {
+
+		@Bean
+		Clock serviceClock() {
+			return Clock.system(ZoneOffset.ofHours(2));
+		}
+	}
+}
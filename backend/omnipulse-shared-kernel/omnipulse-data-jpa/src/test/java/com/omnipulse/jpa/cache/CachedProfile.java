@@ -0,0 +1,22 @@
+package com.omnipulse.jpa.cache;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Cacheable
+@NoArgsConstructor
+public class CachedProfile extends BaseEntity {
+
+	private String displayName;
+
+	public CachedProfile(String displayName) {
+		this.displayName = displayName;
+	}
+}
@@ -0,0 +1,8 @@
+package com.omnipulse.jpa.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface CachedProfileRepository extends JpaRepository<CachedProfile, UUID> {
+}
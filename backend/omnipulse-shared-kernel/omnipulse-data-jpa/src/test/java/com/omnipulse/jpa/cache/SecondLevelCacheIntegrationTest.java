@@ -0,0 +1,109 @@
+package com.omnipulse.jpa.cache;
+
+import com.omnipulse.common.util.UserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"omnipulse.jpa.cache.enabled=true",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SecondLevelCacheIntegrationTest {
+
+	@Autowired
+	private CachedProfileRepository repository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private SecondLevelCacheMetrics cacheMetrics;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		UserContext.setTenantId("tenant-a");
+	}
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void repeatedLookups_ShouldHitDatabaseOnce() {
+		UUID id = repository.save(new CachedProfile("Ada")).getId();
+		entityManagerFactory.getCache().evictAll();
+		statistics.clear();
+
+		for (int i = 0; i < 5; i++) {
+			assertTrue(repository.findById(id).isPresent());
+		}
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(4, statistics.getSecondLevelCacheHitCount());
+	}
+
+	@Test
+	void lookupFromAnotherTenant_ShouldNotReuseCachedEntry() {
+		UUID id = repository.save(new CachedProfile("Grace")).getId();
+		repository.findById(id);
+		statistics.clear();
+
+		UserContext.setTenantId("tenant-b");
+		repository.findById(id);
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getSecondLevelCacheHitCount());
+	}
+
+	@Test
+	void softDelete_ShouldEvictEntryAfterCommit() {
+		CachedProfile profile = repository.save(new CachedProfile("Linus"));
+		repository.findById(profile.getId());
+
+		profile = repository.findById(profile.getId()).orElseThrow();
+		profile.markAsDeleted();
+		repository.save(profile);
+		statistics.clear();
+
+		// The stale cached copy would still be returned; the database applies the live-rows filter
+		assertTrue(repository.findById(profile.getId()).isEmpty());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void bindTo_ShouldPublishHitAndMissCountsPerRegion() {
+		UUID id = repository.save(new CachedProfile("Barbara")).getId();
+		entityManagerFactory.getCache().evictAll();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		cacheMetrics.bindTo(registry);
+
+		repository.findById(id);
+		repository.findById(id);
+
+		String region = CachedProfile.class.getName();
+		assertTrue(registry.get("cache.gets").tag("cache", region).tag("result", "hit").functionCounter().count() >= 1);
+		assertTrue(registry.get("cache.gets").tag("cache", region).tag("result", "miss").functionCounter().count() >= 1);
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class TestApplication {
+	}
+}
@@ -0,0 +1,304 @@
+package com.omnipulse.jpa.outbox;
+
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"omnipulse.jpa.outbox.enabled=true",
+		"omnipulse.jpa.outbox.batch-size=2",
+		"omnipulse.jpa.outbox.max-attempts=3",
+		"omnipulse.jpa.outbox.initial-backoff=PT1S",
+		"omnipulse.jpa.outbox.max-backoff=PT1M",
+		"omnipulse.jpa.outbox.poll-interval=PT1H",
+		// no background workers: the tests drive drainOnce() themselves
+		"omnipulse.jpa.outbox.concurrency=0",
+		"spring.jpa.database-platform=com.omnipulse.jpa.outbox.SkipLockedH2Dialect"
+})
+class OutboxIntegrationTest {
+
+	@Autowired
+	private Outbox outbox;
+
+	@Autowired
+	private OutboxPoller poller;
+
+	@Autowired
+	private ShipmentRepository repository;
+
+	@Autowired
+	private TestSink sink;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	@Qualifier("outboxClock")
+	private MutableClock clock;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("DELETE FROM outbox_event");
+		jdbcTemplate.update("DELETE FROM shipment");
+		sink.clear();
+		sink.hook = batch -> {
+		};
+		clock.now = Instant.parse("2030-01-01T00:00:00Z");
+	}
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void drainOnce_ShouldPublishCommittedEventsInBatchesAndRetireThem() {
+		UserContext.set(RequestContext.of("user-1", "tenant-a", "corr-1"));
+		List<UUID> ids = transactionTemplate.execute(status -> {
+			Shipment shipment = repository.save(new Shipment("Berlin"));
+			return IntStream.range(0, 5)
+					.mapToObj(i -> outbox.append("Shipment", shipment.getId(), "ShipmentCreated", Map.of("seq", i)).getId())
+					.toList();
+		});
+
+		assertEquals(2, poller.drainOnce());
+		assertEquals(2, poller.drainOnce());
+		assertEquals(1, poller.drainOnce());
+		assertEquals(0, poller.drainOnce());
+
+		List<OutboxEvent> published = sink.getEvents();
+		assertEquals(ids, published.stream().map(OutboxEvent::getId).toList());
+		assertEquals("{\"seq\":0}", published.getFirst().getPayload());
+		assertEquals("tenant-a", published.getFirst().getTenantId());
+		assertEquals("corr-1", published.getFirst().getCorrelationId());
+		assertEquals(5, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM outbox_event WHERE published_at IS NOT NULL AND deleted_at IS NOT NULL", Integer.class));
+	}
+
+	@Test
+	void append_ShouldRollBackWithTheBusinessChangeAndRequireATransaction() {
+		transactionTemplate.executeWithoutResult(status -> {
+			Shipment shipment = repository.save(new Shipment("Oslo"));
+			outbox.append("Shipment", shipment.getId(), "ShipmentCreated", "{}");
+			status.setRollbackOnly();
+		});
+
+		assertEquals(0, poller.drainOnce());
+		assertThrows(IllegalTransactionStateException.class,
+				() -> outbox.append("Shipment", UUID.randomUUID(), "ShipmentCreated", "{}"));
+	}
+
+	@Test
+	void drainOnce_ShouldBackOffRejectedEventsAndParkThemAtMaxAttempts() {
+		appendCommitted(1);
+		sink.hook = batch -> {
+			throw new IllegalStateException("broker down");
+		};
+		double parkedBefore = meterRegistry.get("omnipulse.jpa.outbox.events").tag("outcome", "parked").counter().count();
+
+		assertEquals(0, poller.drainOnce());
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT attempts FROM outbox_event", Integer.class));
+		assertTrue(jdbcTemplate.queryForObject("SELECT last_error FROM outbox_event", String.class).contains("broker down"));
+		assertEquals(1, sink.calls.getAndSet(0));
+
+		poller.drainOnce();
+		assertEquals(0, sink.calls.get(), "claimed again before its backoff passed");
+
+		clock.advance(Duration.ofSeconds(1));
+		poller.drainOnce();
+		clock.advance(Duration.ofSeconds(1));
+		poller.drainOnce();
+		assertEquals(1, sink.calls.get(), "second backoff is doubled");
+		clock.advance(Duration.ofSeconds(1));
+		poller.drainOnce();
+		assertEquals(2, sink.calls.get());
+		assertEquals(3, jdbcTemplate.queryForObject("SELECT attempts FROM outbox_event", Integer.class));
+		assertEquals(parkedBefore + 1,
+				meterRegistry.get("omnipulse.jpa.outbox.events").tag("outcome", "parked").counter().count());
+
+		sink.hook = batch -> {
+		};
+		clock.advance(Duration.ofHours(1));
+		assertEquals(0, poller.drainOnce());
+		assertTrue(sink.getEvents().isEmpty());
+	}
+
+	@Test
+	void drainOnce_SinkDownForSeveralPollsThenRecovers_ShouldPublishEveryEvent() {
+		List<UUID> ids = appendCommitted(4);
+		AtomicBoolean sinkDown = new AtomicBoolean(true);
+		sink.hook = batch -> {
+			if (sinkDown.get()) {
+				throw new IllegalStateException("broker down");
+			}
+		};
+
+		for (int poll = 0; poll < 2; poll++) {
+			assertEquals(0, poller.drainOnce());
+			clock.advance(Duration.ofMinutes(1));
+		}
+		sinkDown.set(false);
+		while (poller.drainOnce() > 0) {
+			clock.advance(Duration.ofMinutes(1));
+		}
+
+		assertEquals(ids, sink.getEvents().stream().map(OutboxEvent::getId).toList());
+		assertEquals(0, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM outbox_event WHERE deleted_at IS NULL", Integer.class));
+	}
+
+	@Test
+	void drainOnce_ShouldChargeOnlyThePoisonEventOfARejectedBatch() {
+		List<UUID> ids = appendCommitted(2);
+		sink.hook = batch -> {
+			if (batch.stream().anyMatch(event -> event.getId().equals(ids.getFirst()))) {
+				throw new IllegalArgumentException("poison");
+			}
+		};
+
+		assertEquals(1, poller.drainOnce());
+
+		assertEquals(List.of(ids.get(1)), sink.getEvents().stream().map(OutboxEvent::getId).toList());
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT attempts FROM outbox_event WHERE id = ?", Integer.class, ids.getFirst()));
+		assertEquals(0, jdbcTemplate.queryForObject(
+				"SELECT attempts FROM outbox_event WHERE id = ?", Integer.class, ids.get(1)));
+	}
+
+	@Test
+	void drainOnce_ShouldNeitherWaitForNorResendRowsClaimedByAnotherWorker() throws Exception {
+		appendCommitted(4);
+		CountDownLatch claimed = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean firstBatch = new AtomicBoolean(true);
+		sink.hook = batch -> {
+			if (firstBatch.getAndSet(false)) {
+				claimed.countDown();
+				await(release);
+			}
+		};
+
+		CompletableFuture<Integer> first = CompletableFuture.supplyAsync(poller::drainOnce);
+		assertTrue(claimed.await(5, TimeUnit.SECONDS));
+		try {
+			// H2 locks every row it sorts, so the second worker finds nothing; PostgreSQL hands it the next two rows.
+			assertTrue(poller.drainOnce() <= 2);
+		} finally {
+			release.countDown();
+		}
+		assertEquals(2, first.get(5, TimeUnit.SECONDS));
+		poller.drainOnce();
+
+		assertEquals(4, sink.getEvents().size());
+		assertEquals(4, sink.getEvents().stream().map(OutboxEvent::getId).distinct().count());
+	}
+
+	private List<UUID> appendCommitted(int count) {
+		return transactionTemplate.execute(status -> IntStream.range(0, count)
+				.mapToObj(i -> outbox.append("Shipment", UUID.randomUUID(), "ShipmentCreated", "{}").getId())
+				.toList());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	static class TestSink extends InMemoryOutboxSink {
+
+		volatile Consumer<List<OutboxEvent>> hook = batch -> {
+		};
+		final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public void send(List<OutboxEvent> batch) {
+			calls.incrementAndGet();
+			hook.accept(batch);
+			super.send(batch);
+		}
+	}
+
+	static class MutableClock extends Clock {
+
+		volatile Instant now = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class TestApplication {
+
+		@Bean
+		TestSink testSink() {
+			return new TestSink();
+		}
+
+		@Bean
+		SimpleMeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean(defaultCandidate = false)
+		MutableClock outboxClock() {
+			return new MutableClock();
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.omnipulse.jpa.outbox;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "shipment")
+public class Shipment extends BaseEntity {
+
+	private String destination;
+
+	public Shipment(String destination) {
+		this.destination = destination;
+	}
+}
@@ -0,0 +1,8 @@
+package com.omnipulse.jpa.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface ShipmentRepository extends JpaRepository<Shipment, UUID> {
+}
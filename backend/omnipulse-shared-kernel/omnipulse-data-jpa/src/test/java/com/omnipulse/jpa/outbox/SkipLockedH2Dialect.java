@@ -0,0 +1,24 @@
+package com.omnipulse.jpa.outbox;
+
+import org.hibernate.dialect.H2Dialect;
+
+/**
+ * H2 accepts {@code FOR UPDATE SKIP LOCKED}, but Hibernate's dialect still renders a plain {@code FOR UPDATE}.
+ */
+public class SkipLockedH2Dialect extends H2Dialect {
+
+	@Override
+	public boolean supportsSkipLocked() {
+		return true;
+	}
+
+	@Override
+	public String getForUpdateSkipLockedString() {
+		return " for update skip locked";
+	}
+
+	@Override
+	public String getForUpdateSkipLockedString(String aliases) {
+		return getForUpdateSkipLockedString();
+	}
+}
@@ -0,0 +1,84 @@
+package com.omnipulse.jpa.pagination;
+
+import com.omnipulse.common.dto.response.SlicedResponse;
+import com.omnipulse.common.util.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class KeysetRepositoryIntegrationTest {
+
+	@Autowired
+	private TimelineEventRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		UserContext.setTenantId("tenant-" + UUID.randomUUID());
+		for (int i = 0; i < 25; i++) {
+			repository.save(new TimelineEvent(i % 2 == 0 ? "even" : "odd"));
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void findSlice_ShouldWalkAllRowsNewestFirstWithoutGapsOrDuplicates() {
+		List<TimelineEvent> seen = new ArrayList<>();
+		String cursor = null;
+		int slices = 0;
+
+		do {
+			SlicedResponse<TimelineEvent> slice = repository.findSlice(cursor, 10, false);
+			seen.addAll(slice.getContent());
+			cursor = slice.getNextCursor();
+			slices++;
+		} while (cursor != null);
+
+		assertEquals(3, slices);
+		assertEquals(25, seen.size());
+		assertEquals(25, new HashSet<>(seen).size());
+		// Only createdAt is checked in memory: UUID.compareTo is signed, unlike the database ordering
+		for (int i = 1; i < seen.size(); i++) {
+			assertFalse(seen.get(i).getCreatedAt().isAfter(seen.get(i - 1).getCreatedAt()));
+		}
+	}
+
+	@Test
+	void findSlice_ShouldOnlyCountWhenAsked() {
+		assertNull(repository.findSlice(null, 10, false).getTotalElements());
+		assertEquals(25L, repository.findSlice(null, 10, true).getTotalElements());
+	}
+
+	@Test
+	void findSlice_WithSpecification_ShouldFilterAndReportLastSlice() {
+		Specification<TimelineEvent> odd = (root, query, builder) -> builder.equal(root.get("type"), "odd");
+
+		SlicedResponse<TimelineEvent> slice = repository.findSlice(odd, null, 20, true);
+
+		assertEquals(12, slice.getContent().size());
+		assertFalse(slice.isHasNext());
+		assertNull(slice.getNextCursor());
+		assertEquals(12L, slice.getTotalElements());
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class TestApplication {
+	}
+}
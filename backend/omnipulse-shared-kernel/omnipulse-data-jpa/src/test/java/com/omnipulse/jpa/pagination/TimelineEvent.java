@@ -0,0 +1,22 @@
+package com.omnipulse.jpa.pagination;
+
+import com.omnipulse.jpa.domain.TenantScopedEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "timeline_event", indexes =
+		@Index(name = "ix_timeline_event_tenant_created", columnList = TenantScopedEntity.TENANT_CREATED_INDEX))
+public class TimelineEvent extends TenantScopedEntity {
+
+	private String type;
+
+	public TimelineEvent(String type) {
+		this.type = type;
+	}
+}
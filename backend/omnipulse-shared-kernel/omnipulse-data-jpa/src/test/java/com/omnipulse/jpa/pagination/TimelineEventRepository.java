@@ -0,0 +1,4 @@
+package com.omnipulse.jpa.pagination;
+
+public interface TimelineEventRepository extends KeysetRepository<TimelineEvent> {
+}
@@ -0,0 +1,20 @@
+package com.omnipulse.jpa.routing;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "article")
+public class Article extends BaseEntity {
+
+	private String title;
+
+	public Article(String title) {
+		this.title = title;
+	}
+}
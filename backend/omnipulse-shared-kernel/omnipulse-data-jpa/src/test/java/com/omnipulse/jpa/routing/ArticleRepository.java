@@ -0,0 +1,11 @@
+package com.omnipulse.jpa.routing;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ArticleRepository extends JpaRepository<Article, UUID> {
+
+	List<Article> findByTitle(String title);
+}
@@ -0,0 +1,163 @@
+package com.omnipulse.jpa.routing;
+
+import com.omnipulse.jpa.config.DataJpaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"omnipulse.jpa.read-replica.enabled=true",
+		"omnipulse.jpa.read-replica.replicas[0].name=replica-1",
+		"omnipulse.jpa.read-replica.replicas[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+		"omnipulse.jpa.read-replica.replicas[0].username=sa",
+		"omnipulse.jpa.read-replica.max-lag=PT2S",
+		"omnipulse.jpa.read-replica.check-interval=PT1H",
+		"omnipulse.jpa.read-replica.lag-query=SELECT lag_seconds FROM replica_status"
+})
+class ReadReplicaRoutingIntegrationTest {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+	private static final JdbcTemplate REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+	@Autowired
+	private ArticleRepository repository;
+
+	@Autowired
+	private ReadReplicaRouting routing;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private DataJpaProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		// The replica gets the schema Hibernate created on the primary, then diverging rows to tell them apart
+		REPLICA.execute("DROP ALL OBJECTS");
+		jdbcTemplate.queryForList("SCRIPT NODATA TABLE article", String.class).stream()
+				.filter(statement -> !statement.startsWith("CREATE USER"))
+				.forEach(REPLICA::execute);
+		REPLICA.execute("CREATE TABLE replica_status (lag_seconds DOUBLE PRECISION)");
+		REPLICA.update("INSERT INTO replica_status VALUES (0)");
+
+		jdbcTemplate.update("DELETE FROM article");
+		Article article = repository.save(new Article("on-primary"));
+		REPLICA.update("INSERT INTO article (id, created_at, created_by, updated_at, updated_by, title) "
+				+ "VALUES (?, CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', 'on-replica')", article.getId());
+		routing.refreshLag();
+	}
+
+	@Test
+	void readOnlyTransactions_ShouldReadFromReplica() {
+		assertEquals(List.of("on-replica"), titles(true));
+	}
+
+	@Test
+	void readWriteTransactions_ShouldStayOnPrimary() {
+		assertEquals(List.of("on-primary"), titles(false));
+	}
+
+	@Test
+	void laggingReplica_ShouldFallBackToPrimaryUntilCaughtUp() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		routing.bindTo(registry);
+		REPLICA.update("UPDATE replica_status SET lag_seconds = 10");
+		routing.refreshLag();
+
+		assertEquals(List.of("on-primary"), titles(true));
+		assertEquals(10.0, registry.get("omnipulse.jpa.routing.replica.lag").gauge().value());
+		assertEquals(0.0, registry.get("omnipulse.jpa.routing.replica.healthy").gauge().value());
+		assertEquals(1.0, registry.get("omnipulse.jpa.routing.read-only.connections")
+				.tag("target", "primary").functionCounter().count());
+
+		REPLICA.update("UPDATE replica_status SET lag_seconds = 0.5");
+		routing.refreshLag();
+
+		assertEquals(List.of("on-replica"), titles(true));
+	}
+
+	@Test
+	void replicas_ShouldBeSkippedUntilTheirFirstLagCheck() {
+		try (ReadReplicaRouting fresh = new ReadReplicaRouting(properties.getReadReplica())) {
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			fresh.bindTo(registry);
+			assertEquals(0.0, registry.get("omnipulse.jpa.routing.replica.healthy").gauge().value());
+
+			fresh.refreshLag();
+
+			assertEquals(1.0, registry.get("omnipulse.jpa.routing.replica.healthy").gauge().value());
+		}
+	}
+
+	@Test
+	void refusingReplica_ShouldBeSkippedWithoutStallingTheCheck() {
+		DataJpaProperties.ReadReplica settings = new DataJpaProperties.ReadReplica();
+		DataJpaProperties.ReadReplica.Replica down = new DataJpaProperties.ReadReplica.Replica();
+		down.setName("down");
+		down.setUrl("jdbc:h2:tcp://127.0.0.1:1/down");
+		settings.setReplicas(List.of(down));
+		settings.setConnectionTimeout(Duration.ofMillis(500));
+
+		try (ReadReplicaRouting unreachable = new ReadReplicaRouting(settings)) {
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			unreachable.bindTo(registry);
+
+			assertTimeout(Duration.ofSeconds(5), unreachable::refreshLag);
+			assertEquals(0.0, registry.get("omnipulse.jpa.routing.replica.healthy").gauge().value());
+		}
+	}
+
+	@Test
+	void writeAfterReadOnlyTransaction_InOneEntityManager_ShouldGoToPrimary() {
+		// what open-session-in-view does: one EntityManager spans both transactions of the request
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+		try {
+			assertEquals(List.of("on-replica"), titles(true));
+			new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+					repository.save(new Article("written")));
+		} finally {
+			TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+			entityManager.close();
+		}
+
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article WHERE title = 'written'", Integer.class));
+		assertEquals(0, REPLICA.queryForObject("SELECT COUNT(*) FROM article WHERE title = 'written'", Integer.class));
+	}
+
+	private List<String> titles(boolean readOnly) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(readOnly);
+		return template.execute(status -> repository.findAll().stream().map(Article::getTitle).toList());
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class TestApplication {
+	}
+}
@@ -0,0 +1,26 @@
+package com.omnipulse.jpa.softdelete;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "memo")
+public class Memo extends BaseEntity {
+
+	private String text;
+
+	public Memo(String text) {
+		this.text = text;
+	}
+
+	void deletedAt(LocalDateTime deletedAt) {
+		setDeletedAt(deletedAt);
+	}
+}
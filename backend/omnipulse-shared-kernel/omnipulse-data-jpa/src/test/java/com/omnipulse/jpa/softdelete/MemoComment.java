@@ -0,0 +1,28 @@
+package com.omnipulse.jpa.softdelete;
+
+import com.omnipulse.jpa.domain.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "memo_comment")
+public class MemoComment extends BaseEntity {
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "memo_id", nullable = false)
+	private Memo memo;
+
+	private String text;
+
+	public MemoComment(Memo memo, String text) {
+		this.memo = memo;
+		this.text = text;
+	}
+}
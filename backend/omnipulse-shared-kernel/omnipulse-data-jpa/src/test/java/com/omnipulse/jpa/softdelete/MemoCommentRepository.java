@@ -0,0 +1,8 @@
+package com.omnipulse.jpa.softdelete;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface MemoCommentRepository extends JpaRepository<MemoComment, UUID> {
+}
@@ -0,0 +1,11 @@
+package com.omnipulse.jpa.softdelete;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface MemoRepository extends JpaRepository<Memo, UUID> {
+
+	List<Memo> findByText(String text);
+}
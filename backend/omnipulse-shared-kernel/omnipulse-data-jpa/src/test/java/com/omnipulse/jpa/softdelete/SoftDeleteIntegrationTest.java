@@ -0,0 +1,142 @@
+package com.omnipulse.jpa.softdelete;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"omnipulse.jpa.soft-delete.purge.enabled=true",
+		"omnipulse.jpa.soft-delete.purge.batch-size=2"
+})
+class SoftDeleteIntegrationTest {
+
+	private static final LocalDateTime PURGE_NOW = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+	@Autowired
+	private MemoRepository repository;
+
+	@Autowired
+	private MemoCommentRepository commentRepository;
+
+	@Autowired
+	private SoftDeleteScope softDeleteScope;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private SoftDeletePurgeJob purgeJob;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("DELETE FROM memo_comment");
+		jdbcTemplate.update("DELETE FROM memo");
+	}
+
+	@Test
+	void queries_ShouldOnlySeeLiveRows() {
+		repository.save(new Memo("keep"));
+		UUID deletedId = saveDeleted("gone", LocalDateTime.now());
+
+		assertEquals(1, repository.count());
+		assertEquals(1, repository.findAll().size());
+		assertTrue(repository.findByText("gone").isEmpty());
+		assertTrue(repository.findById(deletedId).isEmpty());
+	}
+
+	@Test
+	void includingDeleted_ShouldExposeAndAllowRestoringDeletedRows() {
+		UUID deletedId = saveDeleted("gone", LocalDateTime.now());
+
+		assertEquals(1, softDeleteScope.includingDeleted(() -> repository.findByText("gone")).size());
+		softDeleteScope.includingDeleted(() -> {
+			Memo memo = repository.findById(deletedId).orElseThrow();
+			memo.restore();
+			return repository.save(memo);
+		});
+
+		assertTrue(repository.findById(deletedId).isPresent());
+	}
+
+	@Test
+	void includingDeleted_ShouldReenableFilterAfterwards() {
+		saveDeleted("gone", LocalDateTime.now());
+
+		softDeleteScope.includingDeleted(repository::count);
+
+		assertEquals(0, repository.count());
+	}
+
+	@Test
+	void purge_ShouldHardDeleteOnlyExpiredTombstonesInBatches() {
+		LocalDateTime now = LocalDateTime.now();
+		repository.save(new Memo("live"));
+		for (int i = 0; i < 5; i++) {
+			saveDeleted("expired", now.minusDays(40));
+		}
+		saveDeleted("recent", now.minusDays(1));
+
+		long purged = purgeJob.purgeOlderThan(now.minusDays(30));
+
+		assertEquals(5, purged);
+		assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM memo", Integer.class));
+		assertEquals(1, softDeleteScope.includingDeleted(() -> repository.findByText("recent")).size());
+	}
+
+	@Test
+	void manyToOne_SoftDeletedParent_ShouldOnlyResolveInsideIncludingDeleted() {
+		Memo parent = repository.save(new Memo("parent"));
+		UUID commentId = commentRepository.save(new MemoComment(parent, "reply")).getId();
+		parent.markAsDeleted();
+		repository.save(parent);
+
+		assertThrows(EntityNotFoundException.class, () -> transactionTemplate.executeWithoutResult(status ->
+				commentRepository.findById(commentId).orElseThrow().getMemo().getText()));
+		assertEquals("parent", softDeleteScope.includingDeleted(() ->
+				commentRepository.findById(commentId).orElseThrow().getMemo().getText()));
+	}
+
+	@Test
+	void run_ShouldMeasureRetentionOnTheInjectedClock() {
+		saveDeleted("expired", PURGE_NOW.minusDays(31));
+		saveDeleted("retained", PURGE_NOW.minusDays(29));
+
+		purgeJob.run();
+
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM memo", Integer.class));
+		assertEquals(1, softDeleteScope.includingDeleted(() -> repository.findByText("retained")).size());
+	}
+
+	private UUID saveDeleted(String text, LocalDateTime deletedAt) {
+		Memo memo = new Memo(text);
+		memo.deletedAt(deletedAt);
+		return repository.save(memo).getId();
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class TestApplication {
+
+		@Bean(defaultCandidate = false)
+		Clock softDeletePurgeClock() {
+			return Clock.fixed(PURGE_NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.omnipulse.jpa.tenant;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class RecordingStatementInspector implements StatementInspector {
+
+	static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.add(sql);
+		return sql;
+	}
+}
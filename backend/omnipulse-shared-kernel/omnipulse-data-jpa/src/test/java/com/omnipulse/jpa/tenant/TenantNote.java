@@ -0,0 +1,24 @@
+package com.omnipulse.jpa.tenant;
+
+import com.omnipulse.jpa.domain.TenantScopedEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "tenant_note", indexes = {
+		@Index(name = "ix_tenant_note_tenant_created", columnList = TenantScopedEntity.TENANT_CREATED_INDEX),
+		@Index(name = "ix_tenant_note_tenant_title", columnList = "tenant_id, title")
+})
+public class TenantNote extends TenantScopedEntity {
+
+	private String title;
+
+	public TenantNote(String title) {
+		this.title = title;
+	}
+}
@@ -0,0 +1,11 @@
+package com.omnipulse.jpa.tenant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TenantNoteRepository extends JpaRepository<TenantNote, UUID> {
+
+	List<TenantNote> findByTitle(String title);
+}
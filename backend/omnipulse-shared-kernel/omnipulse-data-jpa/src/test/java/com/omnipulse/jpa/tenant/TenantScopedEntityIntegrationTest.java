@@ -0,0 +1,100 @@
+package com.omnipulse.jpa.tenant;
+
+import com.omnipulse.common.util.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties =
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.omnipulse.jpa.tenant.RecordingStatementInspector")
+class TenantScopedEntityIntegrationTest {
+
+	/** H2 prints the chosen index and its leading condition, e.g. {@code PUBLIC.IX_...: TENANT_ID = ?1}. */
+	private static final Pattern TENANT_INDEX_SCAN = Pattern.compile("PUBLIC\\.IX_TENANT_NOTE_TENANT_\\w+: TENANT_ID = \\?1");
+
+	@Autowired
+	private TenantNoteRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		UserContext.setTenantId("tenant-a");
+		RecordingStatementInspector.STATEMENTS.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void save_ShouldStampTenantFromUserContext() {
+		TenantNote note = repository.save(new TenantNote("stamped"));
+
+		assertEquals("tenant-a", note.getTenantId());
+	}
+
+	@Test
+	void findById_FromAnotherTenant_ShouldNotSeeRow() {
+		UUID id = repository.save(new TenantNote("private")).getId();
+
+		UserContext.setTenantId("tenant-b");
+
+		assertTrue(repository.findById(id).isEmpty());
+	}
+
+	@Test
+	void findAll_ShouldOnlyReturnCurrentTenantRows() {
+		repository.save(new TenantNote("mine"));
+		UserContext.setTenantId("tenant-b");
+		repository.save(new TenantNote("theirs"));
+
+		assertTrue(repository.findAll().stream().allMatch(note -> "tenant-b".equals(note.getTenantId())));
+	}
+
+	@Test
+	void derivedQuery_ShouldUseTenantPrefixedIndex() {
+		repository.findByTitle("any");
+
+		String plan = explainLastSelect("tenant-a", "any");
+
+		assertTrue(plan.contains("IX_TENANT_NOTE_TENANT_TITLE"), plan);
+		assertFalse(plan.contains("tableScan"), plan);
+	}
+
+	@Test
+	void findAll_ShouldUseTenantPrefixedIndex() {
+		repository.findAll();
+
+		String plan = explainLastSelect("tenant-a");
+
+		assertTrue(TENANT_INDEX_SCAN.matcher(plan).find(), plan);
+		assertFalse(plan.contains("tableScan"), plan);
+	}
+
+	private String explainLastSelect(Object... parameters) {
+		String sql = RecordingStatementInspector.STATEMENTS.stream()
+				.filter(statement -> statement.startsWith("select"))
+				.reduce((first, second) -> second)
+				.orElseThrow();
+		assertTrue(sql.contains("tenant_id"), sql);
+		return jdbcTemplate.queryForObject("explain " + sql, String.class, parameters);
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	static class TestApplication {
+	}
+}
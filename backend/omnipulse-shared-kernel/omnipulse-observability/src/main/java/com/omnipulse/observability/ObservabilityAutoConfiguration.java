@@ -1,23 +1,69 @@
 package com.omnipulse.observability;
 
+import com.omnipulse.common.exception.ExceptionFingerprints;
+import com.omnipulse.observability.aspect.LoggingAspect;
+import com.omnipulse.observability.aspect.MethodMetricsAspect;
+import com.omnipulse.observability.logging.LoggingPipelineMetrics;
+import com.omnipulse.observability.metrics.ExceptionFingerprintMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
 
-@AutoConfiguration
-@ComponentScan(basePackages = "com.omnipulse.observability")
+@AutoConfiguration(after = {
+		MetricsAutoConfiguration.class,
+		CompositeMeterRegistryAutoConfiguration.class,
+		ObservationAutoConfiguration.class
+})
+@Import(LoggingAspect.class)
 @EnableAspectJAutoProxy
+@EnableConfigurationProperties(ObservabilityProperties.class)
 public class ObservabilityAutoConfiguration {
 
+	@Bean
+	@ConditionalOnMissingBean
+	public ExceptionFingerprints exceptionFingerprints(ObservabilityProperties properties) {
+		ObservabilityProperties.Logging logging = properties.getLogging();
+		return new ExceptionFingerprints(logging.getExceptionTraceWindow(), logging.getExceptionFingerprintFrames(),
+				logging.getMaxExceptionFingerprints());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public ExceptionFingerprintMetrics exceptionFingerprintMetrics(ExceptionFingerprints exceptionFingerprints) {
+		return new ExceptionFingerprintMetrics(exceptionFingerprints);
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnBean(ObservationRegistry.class)
 	public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
 		return new ObservedAspect(observationRegistry);
 	}
-}
\ No newline at end of file
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(MeterRegistry.class)
+	@ConditionalOnProperty(prefix = "omnipulse.observability.metrics", name = "enabled", matchIfMissing = true)
+	public MethodMetricsAspect methodMetricsAspect(MeterRegistry meterRegistry, ObservabilityProperties properties) {
+		return new MethodMetricsAspect(meterRegistry, properties);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnClass(name = "ch.qos.logback.classic.LoggerContext")
+	public LoggingPipelineMetrics loggingPipelineMetrics() {
+		return new LoggingPipelineMetrics();
+	}
+}
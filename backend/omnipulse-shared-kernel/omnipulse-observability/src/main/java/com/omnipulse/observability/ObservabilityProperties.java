@@ -0,0 +1,53 @@
+package com.omnipulse.observability;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.observability")
+public class ObservabilityProperties {
+
+	private final Logging logging = new Logging();
+	private final Metrics metrics = new Metrics();
+
+	@Data
+	public static class Logging {
+		/** Fraction (0.0 - 1.0) of calls whose entry/exit is logged at DEBUG, per layer. */
+		private double controllerSampleRate = 1.0;
+		private double serviceSampleRate = 1.0;
+		private double repositorySampleRate = 1.0;
+		private boolean logArguments = true;
+		private int maxRenderedLength = 512;
+		/** Stack traces are logged once per exception fingerprint (type and top frames) within this window. */
+		private Duration exceptionTraceWindow = Duration.ofMinutes(1);
+		private int exceptionFingerprintFrames = 5;
+		/** Distinct fingerprints tracked before further ones are counted as "other". */
+		private int maxExceptionFingerprints = 200;
+	}
+
+	@Data
+	public static class Metrics {
+		private boolean enabled = true;
+		/**
+		 * Tags method timers by tenant. Each timer is then repeated for up to {@code maxTenantTags} + 2 tenant
+		 * values ("other" and "none").
+		 */
+		private boolean tenantTag = true;
+		/** Distinct tenant tag values kept before further tenants are reported as "other". */
+		private int maxTenantTags = 50;
+		/**
+		 * Publishes histogram buckets between the expected values: 66 buckets for 1 ms - 30 s, so about 69
+		 * Prometheus series per timer instead of 3 (count, sum, max). When unset, on only without the tenant tag,
+		 * since both together multiply to about 3,600 series per method and outcome.
+		 */
+		private Boolean percentileHistogram;
+		private Duration minimumExpectedValue = Duration.ofMillis(1);
+		private Duration maximumExpectedValue = Duration.ofSeconds(30);
+
+		public boolean isPercentileHistogramPublished() {
+			return percentileHistogram != null ? percentileHistogram : !tenantTag;
+		}
+	}
+}
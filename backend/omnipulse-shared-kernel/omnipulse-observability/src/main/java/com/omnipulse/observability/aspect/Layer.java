@@ -0,0 +1,14 @@
+package com.omnipulse.observability.aspect;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Layer {
+	CONTROLLER("controller"),
+	SERVICE("service"),
+	REPOSITORY("repository");
+
+	private final String tagValue;
+}
@@ -0,0 +1,89 @@
+package com.omnipulse.observability.aspect;
+
+import org.hibernate.Hibernate;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Deferred, size-capped rendering of advice arguments and results. Handed to SLF4J as a parameter so nothing
+ * is rendered unless the statement is actually logged. Collections, maps and arrays are summarised by type and
+ * size instead of rendering their elements. Uninitialized Hibernate collections and proxies are rendered by type
+ * only, since their size or {@code toString()} would load them; any other object, initialized entities included,
+ * is rendered with its own {@code toString()}.
+ */
+final class LazyRender {
+
+	private static final boolean HIBERNATE_PRESENT =
+			ClassUtils.isPresent("org.hibernate.Hibernate", LazyRender.class.getClassLoader());
+
+	private static final String TRUNCATED = "...";
+
+	private final Object value;
+	private final boolean arguments;
+	private final int maxLength;
+
+	private LazyRender(Object value, boolean arguments, int maxLength) {
+		this.value = value;
+		this.arguments = arguments;
+		this.maxLength = maxLength;
+	}
+
+	static LazyRender args(Object[] args, int maxLength) {
+		return new LazyRender(args, true, maxLength);
+	}
+
+	static LazyRender value(Object value, int maxLength) {
+		return new LazyRender(value, false, maxLength);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder out = new StringBuilder(Math.min(maxLength, 64) + TRUNCATED.length());
+		if (arguments) {
+			Object[] args = (Object[]) value;
+			out.append('[');
+			for (int i = 0; i < args.length && out.length() < maxLength; i++) {
+				if (i > 0) {
+					out.append(", ");
+				}
+				appendValue(out, args[i]);
+			}
+			out.append(']');
+		} else {
+			appendValue(out, value);
+		}
+
+		if (out.length() > maxLength) {
+			out.setLength(maxLength);
+			out.append(TRUNCATED);
+		}
+		return out.toString();
+	}
+
+	private void appendValue(StringBuilder out, Object item) {
+		if (item == null) {
+			out.append("null");
+		} else if (item instanceof CharSequence || item instanceof Number || item instanceof Boolean
+				|| item instanceof Enum<?> || item instanceof UUID || item instanceof Temporal) {
+			out.append(item);
+		} else if (HIBERNATE_PRESENT && !Hibernate.isInitialized(item)) {
+			out.append(Hibernate.getClassLazy(item).getSimpleName()).append("(uninitialized)");
+		} else if (item instanceof Collection<?> collection) {
+			out.append(item.getClass().getSimpleName()).append("(size=").append(collection.size()).append(')');
+		} else if (item instanceof Map<?, ?> map) {
+			out.append(item.getClass().getSimpleName()).append("(size=").append(map.size()).append(')');
+		} else if (item.getClass().isArray()) {
+			out.append(item.getClass().getComponentType().getSimpleName())
+					.append('[').append(Array.getLength(item)).append(']');
+		} else {
+			String rendered = String.valueOf(item);
+			int room = Math.max(0, maxLength - out.length());
+			out.append(rendered, 0, Math.min(rendered.length(), room + 1));
+		}
+	}
+}
@@ -1,24 +1,58 @@
 package com.omnipulse.observability.aspect;
 
+import com.omnipulse.common.exception.ExceptionFingerprints;
+import com.omnipulse.observability.ObservabilityProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Aspect
 @Component
 public class LoggingAspect {
 
-	@Pointcut("within(@org.springframework.stereotype.Repository *)" +
-			" || within(@org.springframework.stereotype.Service *)" +
-			" || within(@org.springframework.web.bind.annotation.RestController *)")
+	private final Map<Method, String> signatureNames = new ConcurrentHashMap<>();
+	private final double[] sampleRates = new double[Layer.values().length];
+	private final boolean logArguments;
+	private final int maxRenderedLength;
+	private final ExceptionFingerprints exceptionFingerprints;
+
+	public LoggingAspect(ObservabilityProperties properties, ExceptionFingerprints exceptionFingerprints) {
+		ObservabilityProperties.Logging logging = properties.getLogging();
+		this.sampleRates[Layer.CONTROLLER.ordinal()] = logging.getControllerSampleRate();
+		this.sampleRates[Layer.SERVICE.ordinal()] = logging.getServiceSampleRate();
+		this.sampleRates[Layer.REPOSITORY.ordinal()] = logging.getRepositorySampleRate();
+		this.logArguments = logging.isLogArguments();
+		this.maxRenderedLength = logging.getMaxRenderedLength();
+		this.exceptionFingerprints = exceptionFingerprints;
+	}
+
+	@Pointcut("within(@org.springframework.stereotype.Repository *)")
+	public void repositoryPointcut() {
+	}
+
+	@Pointcut("within(@org.springframework.stereotype.Service *)")
+	public void servicePointcut() {
+	}
+
+	@Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
+	public void controllerPointcut() {
+	}
+
+	@Pointcut("repositoryPointcut() || servicePointcut() || controllerPointcut()")
 	public void springBeanPointcut() {
 	}
 
@@ -28,40 +62,84 @@ public class LoggingAspect {
 
 	@AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
 	public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
-		log.error("Exception in {}.{}() with cause = '{}' and exception = '{}'",
-				joinPoint.getSignature().getDeclaringTypeName(),
-				joinPoint.getSignature().getName(),
+		// Logged once, where it is first thrown; outer layers and the exception handler see the same instance.
+		// Repeats within the fingerprint window are only counted and reported with the next trace.
+		ExceptionFingerprints.Occurrence occurrence = exceptionFingerprints.record(e);
+		if (occurrence == null || !occurrence.logTrace()) {
+			return;
+		}
+		log.error("Exception in {}() with cause = '{}' and exception = '{}' [fingerprint {}, {} since last trace]",
+				signatureName(joinPoint),
 				e.getCause() != null ? e.getCause() : "NULL",
 				e.getMessage(),
+				occurrence.fingerprint(),
+				occurrence.suppressed(),
 				e);
 	}
 
-	@Around("applicationPackagePointcut() && springBeanPointcut()")
-	public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-		if (log.isDebugEnabled()) {
-			log.debug("Enter: {}.{}() with argument[s] = {}",
-					joinPoint.getSignature().getDeclaringTypeName(),
-					joinPoint.getSignature().getName(),
-					Arrays.toString(joinPoint.getArgs()));
+	@Around("applicationPackagePointcut() && controllerPointcut()")
+	public Object logAroundController(ProceedingJoinPoint joinPoint) throws Throwable {
+		return logAround(joinPoint, Layer.CONTROLLER);
+	}
+
+	@Around("applicationPackagePointcut() && servicePointcut()")
+	public Object logAroundService(ProceedingJoinPoint joinPoint) throws Throwable {
+		return logAround(joinPoint, Layer.SERVICE);
+	}
+
+	@Around("applicationPackagePointcut() && repositoryPointcut()")
+	public Object logAroundRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		return logAround(joinPoint, Layer.REPOSITORY);
+	}
+
+	private Object logAround(ProceedingJoinPoint joinPoint, Layer layer) throws Throwable {
+		if (!log.isDebugEnabled() || !sampled(layer)) {
+			try {
+				return joinPoint.proceed();
+			} catch (IllegalArgumentException e) {
+				logIllegalArgument(joinPoint, e);
+				throw e;
+			}
 		}
 
-		long start = System.currentTimeMillis();
+		String name = signatureName(joinPoint);
+		log.debug("Enter: {}() with argument[s] = {}", name, renderArgs(joinPoint));
+
+		long start = System.nanoTime();
 		try {
 			Object result = joinPoint.proceed();
 
-			long duration = System.currentTimeMillis() - start;
-			if (log.isDebugEnabled()) {
-				log.debug("Exit: {}.{}() with result = {} (Execution time: {} ms)",
-						joinPoint.getSignature().getDeclaringTypeName(),
-						joinPoint.getSignature().getName(),
-						result,
-						duration);
-			}
+			long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			log.debug("Exit: {}() with result = {} (Execution time: {} ms)",
+					name,
+					LazyRender.value(result, maxRenderedLength),
+					durationMillis);
 			return result;
 		} catch (IllegalArgumentException e) {
-			log.error("Illegal argument: {} in {}.{}()", Arrays.toString(joinPoint.getArgs()),
-					joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
+			logIllegalArgument(joinPoint, e);
 			throw e;
 		}
 	}
+
+	private void logIllegalArgument(ProceedingJoinPoint joinPoint, IllegalArgumentException e) {
+		log.error("Illegal argument: {} in {}()", renderArgs(joinPoint), signatureName(joinPoint));
+	}
+
+	private Object renderArgs(JoinPoint joinPoint) {
+		return logArguments ? LazyRender.args(joinPoint.getArgs(), maxRenderedLength) : "[hidden]";
+	}
+
+	private boolean sampled(Layer layer) {
+		double rate = sampleRates[layer.ordinal()];
+		return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+	}
+
+	String signatureName(JoinPoint joinPoint) {
+		Signature signature = joinPoint.getSignature();
+		if (signature instanceof MethodSignature methodSignature) {
+			return signatureNames.computeIfAbsent(methodSignature.getMethod(),
+					method -> signature.getDeclaringTypeName() + "." + method.getName());
+		}
+		return signature.getDeclaringTypeName() + "." + signature.getName();
+	}
 }
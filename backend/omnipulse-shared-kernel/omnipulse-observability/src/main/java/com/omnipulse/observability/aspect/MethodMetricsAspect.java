@@ -0,0 +1,108 @@
+package com.omnipulse.observability.aspect;
+
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.observability.ObservabilityProperties;
+import com.omnipulse.observability.metrics.TenantTagLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@value #METRIC_NAME} timers for the same controller, service and repository methods that
+ * {@link LoggingAspect} intercepts, tagged by layer, class, method, outcome, exception and, unless disabled,
+ * (capped) tenant. See {@link ObservabilityProperties.Metrics} for the series each setting produces.
+ */
+@Aspect
+public class MethodMetricsAspect {
+
+	public static final String METRIC_NAME = "omnipulse.method";
+
+	private static final String OUTCOME_SUCCESS = "success";
+	private static final String OUTCOME_ERROR = "error";
+	private static final String NO_EXCEPTION = "none";
+
+	private final MeterRegistry registry;
+	private final TenantTagLimiter tenantTags;
+	private final ObservabilityProperties.Metrics settings;
+	private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+	public MethodMetricsAspect(MeterRegistry registry, ObservabilityProperties properties) {
+		this.registry = registry;
+		this.settings = properties.getMetrics();
+		this.tenantTags = new TenantTagLimiter(settings.getMaxTenantTags());
+	}
+
+	@Around("com.omnipulse.observability.aspect.LoggingAspect.applicationPackagePointcut()"
+			+ " && com.omnipulse.observability.aspect.LoggingAspect.controllerPointcut()")
+	public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(joinPoint, Layer.CONTROLLER);
+	}
+
+	@Around("com.omnipulse.observability.aspect.LoggingAspect.applicationPackagePointcut()"
+			+ " && com.omnipulse.observability.aspect.LoggingAspect.servicePointcut()")
+	public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(joinPoint, Layer.SERVICE);
+	}
+
+	@Around("com.omnipulse.observability.aspect.LoggingAspect.applicationPackagePointcut()"
+			+ " && com.omnipulse.observability.aspect.LoggingAspect.repositoryPointcut()")
+	public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(joinPoint, Layer.REPOSITORY);
+	}
+
+	private Object time(ProceedingJoinPoint joinPoint, Layer layer) throws Throwable {
+		long start = System.nanoTime();
+		Class<? extends Throwable> failure = null;
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			failure = e.getClass();
+			throw e;
+		} finally {
+			timer(joinPoint, layer, failure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private Timer timer(ProceedingJoinPoint joinPoint, Layer layer, Class<? extends Throwable> failure) {
+		Signature signature = joinPoint.getSignature();
+		Object site = signature instanceof MethodSignature methodSignature ? methodSignature.getMethod() : signature;
+		String tenant = settings.isTenantTag() ? tenantTags.tagValue(UserContext.getTenantId()) : null;
+		TimerKey key = new TimerKey(site, layer, failure, tenant);
+		Timer timer = timers.get(key);
+		return timer != null ? timer : timers.computeIfAbsent(key, k -> register(signature, k));
+	}
+
+	private Timer register(Signature signature, TimerKey key) {
+		Timer.Builder builder = Timer.builder(METRIC_NAME)
+				.description("Execution time of intercepted controller, service and repository methods")
+				.tags("layer", key.layer().getTagValue(),
+						"class", signature.getDeclaringType().getSimpleName(),
+						"method", signature.getName())
+				.tag("outcome", key.failure() == null ? OUTCOME_SUCCESS : OUTCOME_ERROR)
+				.tag("exception", key.failure() == null ? NO_EXCEPTION : key.failure().getSimpleName())
+				.publishPercentileHistogram(settings.isPercentileHistogramPublished())
+				.minimumExpectedValue(settings.getMinimumExpectedValue())
+				.maximumExpectedValue(settings.getMaximumExpectedValue());
+		if (key.tenant() != null) {
+			builder.tag("tenant", key.tenant());
+		}
+		return builder.register(registry);
+	}
+
+	/**
+	 * Identity of one time series; {@code site} is the {@link Method} where AspectJ exposes it. Tenant values are
+	 * already capped by {@link TenantTagLimiter}, and {@code null} without the tenant tag, so the map grows no
+	 * faster than the registry itself.
+	 */
+	private record TimerKey(Object site, Layer layer, Class<? extends Throwable> failure, String tenant) {
+	}
+}
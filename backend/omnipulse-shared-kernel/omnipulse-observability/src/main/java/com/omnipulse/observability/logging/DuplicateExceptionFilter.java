@@ -0,0 +1,125 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import ch.qos.logback.core.util.Duration;
+import org.slf4j.Marker;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Denies an event that repeats one logged within {@code window}, before the event is even created: same logger,
+ * same formatted message and an exception of the same type, message and throwing frame. Covers both
+ * {@code log.error(msg, e)} and a throwable passed as the last argument of a parameterized message; the same
+ * exception logged with different arguments, or from a different call site's message, still goes through.
+ * Events without a throwable are not touched.
+ * <p>
+ * Not part of the default {@code logback-spring.xml}: exceptions logged by the kernel's {@code LoggingAspect} and
+ * {@code GlobalExceptionHandler} are already deduplicated through {@code ExceptionFingerprints}. Add it as a
+ * {@code <turboFilter>} for code that logs exceptions itself, e.g. third-party libraries.
+ * <p>
+ * At most {@code maxEntries} distinct exceptions are tracked; past that, expired entries are evicted and, if that
+ * is not enough, tracking starts over.
+ */
+public class DuplicateExceptionFilter extends TurboFilter {
+
+	private final Map<Key, Long> lastLogged = new ConcurrentHashMap<>();
+	private final LongAdder suppressed = new LongAdder();
+	private final LongSupplier nanoClock;
+
+	private Duration window = Duration.buildBySeconds(10);
+	private int maxEntries = 1024;
+
+	public DuplicateExceptionFilter() {
+		this(System::nanoTime);
+	}
+
+	DuplicateExceptionFilter(LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+	}
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+		Throwable throwable = t != null ? t : trailingThrowable(params);
+		if (throwable == null || !isStarted() || !logger.isEnabledFor(level)) {
+			return FilterReply.NEUTRAL;
+		}
+
+		long now = nanoClock.getAsLong();
+		long windowNanos = window.getMilliseconds() * 1_000_000L;
+		Key key = Key.of(logger.getName(), format, t != null ? params : withoutTrailing(params), throwable);
+		boolean[] duplicate = {false};
+		lastLogged.compute(key, (k, last) -> {
+			if (last != null && now - last < windowNanos) {
+				duplicate[0] = true;
+				return last;
+			}
+			return now;
+		});
+		if (duplicate[0]) {
+			suppressed.increment();
+			return FilterReply.DENY;
+		}
+		if (lastLogged.size() > maxEntries) {
+			evict(now, windowNanos);
+		}
+		return FilterReply.NEUTRAL;
+	}
+
+	private void evict(long now, long windowNanos) {
+		lastLogged.values().removeIf(last -> now - last >= windowNanos);
+		if (lastLogged.size() > maxEntries) {
+			lastLogged.clear();
+		}
+	}
+
+	private static Throwable trailingThrowable(Object[] params) {
+		if (params == null || params.length == 0) {
+			return null;
+		}
+		return params[params.length - 1] instanceof Throwable throwable ? throwable : null;
+	}
+
+	private static Object[] withoutTrailing(Object[] params) {
+		return Arrays.copyOf(params, params.length - 1);
+	}
+
+	public long getSuppressedCount() {
+		return suppressed.sum();
+	}
+
+	public Duration getWindow() {
+		return window;
+	}
+
+	public void setWindow(Duration window) {
+		this.window = window;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Holds the formatted message rather than the arguments, so no argument object is retained for the window.
+	 */
+	private record Key(String logger, String message, Class<?> type, String exceptionMessage, StackTraceElement origin) {
+
+		static Key of(String logger, String format, Object[] params, Throwable throwable) {
+			StackTraceElement[] stack = throwable.getStackTrace();
+			return new Key(logger, MessageFormatter.basicArrayFormat(format, params), throwable.getClass(),
+					throwable.getMessage(), stack.length > 0 ? stack[0] : null);
+		}
+	}
+}
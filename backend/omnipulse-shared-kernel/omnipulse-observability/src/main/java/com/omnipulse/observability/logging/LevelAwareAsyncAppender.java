@@ -0,0 +1,134 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.appender.RingBufferFullException;
+import net.logstash.logback.appender.ShutdownInProgressException;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.io.Serial;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Disruptor-backed async appender that hands events to its {@code <appender-ref>}s on a single worker thread, so
+ * JSON encoding and console I/O stay off the request thread. Once fewer than {@code discardingThreshold} slots are
+ * free, events at {@code discardLevel} or below are dropped without waiting; more severe ones wait up to
+ * {@code appendTimeout} for space and are dropped after that.
+ * <p>
+ * Enqueued and dropped events are counted per reason and published by {@link LoggingPipelineMetrics}.
+ */
+public class LevelAwareAsyncAppender extends LoggingEventAsyncDisruptorAppender {
+
+	public static final String REASON_LEVEL = "level";
+	public static final String REASON_RING_BUFFER_FULL = "ring-buffer-full";
+	public static final String REASON_SHUTDOWN = "shutdown";
+
+	private static final DiscardedException DISCARDED = new DiscardedException();
+
+	private final LongAdder enqueued = new LongAdder();
+	private final LongAdder droppedByLevel = new LongAdder();
+	private final LongAdder droppedRingBufferFull = new LongAdder();
+	private final LongAdder droppedOnShutdown = new LongAdder();
+
+	private final AppenderListener<ILoggingEvent> counters = new Counters();
+
+	private Level discardLevel = Level.INFO;
+	private int discardingThreshold = -1;
+
+	@Override
+	public void start() {
+		if (discardingThreshold < 0) {
+			discardingThreshold = getRingBufferSize() / 5;
+		}
+		// registered here rather than in the constructor so the listener never sees a half-built appender;
+		// removed first because the appender can be started again after a stop
+		removeListener(counters);
+		addListener(counters);
+		super.start();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		if (isStarted() && isDiscardable(event) && remainingCapacity() < discardingThreshold) {
+			fireEventAppendFailed(event, DISCARDED);
+			return;
+		}
+		super.append(event);
+	}
+
+	private boolean isDiscardable(ILoggingEvent event) {
+		return event.getLevel().toInt() <= discardLevel.toInt();
+	}
+
+	private LongAdder droppedCounter(Throwable reason) {
+		if (reason == DISCARDED) {
+			return droppedByLevel;
+		}
+		return reason instanceof ShutdownInProgressException ? droppedOnShutdown : droppedRingBufferFull;
+	}
+
+	public long remainingCapacity() {
+		return isStarted() ? getDisruptor().getRingBuffer().remainingCapacity() : getRingBufferSize();
+	}
+
+	public long getEnqueuedCount() {
+		return enqueued.sum();
+	}
+
+	/**
+	 * @param reason one of {@link #REASON_LEVEL}, {@link #REASON_RING_BUFFER_FULL} or {@link #REASON_SHUTDOWN}
+	 */
+	public long getDroppedCount(String reason) {
+		return switch (reason) {
+			case REASON_LEVEL -> droppedByLevel.sum();
+			case REASON_RING_BUFFER_FULL -> droppedRingBufferFull.sum();
+			case REASON_SHUTDOWN -> droppedOnShutdown.sum();
+			default -> throw new IllegalArgumentException("Unknown drop reason: " + reason);
+		};
+	}
+
+	public Level getDiscardLevel() {
+		return discardLevel;
+	}
+
+	public void setDiscardLevel(String discardLevel) {
+		this.discardLevel = Level.toLevel(discardLevel, Level.INFO);
+	}
+
+	public int getDiscardingThreshold() {
+		return discardingThreshold;
+	}
+
+	public void setDiscardingThreshold(int discardingThreshold) {
+		this.discardingThreshold = discardingThreshold;
+	}
+
+	private final class Counters implements AppenderListener<ILoggingEvent> {
+
+		@Override
+		public void eventAppended(Appender<ILoggingEvent> appender, ILoggingEvent event, long durationInNanos) {
+			enqueued.increment();
+		}
+
+		@Override
+		public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+			droppedCounter(reason).increment();
+		}
+	}
+
+	/**
+	 * Shared marker passed to the listeners for events dropped by level; never thrown, so it carries no stack.
+	 */
+	private static final class DiscardedException extends RingBufferFullException {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Publishes {@code omnipulse.logging.async.events} (tagged {@code appender}, {@code outcome} = enqueued / dropped and
+ * {@code reason}) and {@code omnipulse.logging.async.remaining-capacity} for every {@link LevelAwareAsyncAppender}
+ * attached to a logger, and {@code omnipulse.logging.duplicates.suppressed} for every {@link DuplicateExceptionFilter}.
+ */
+public class LoggingPipelineMetrics implements MeterBinder {
+
+	static final String EVENTS = "omnipulse.logging.async.events";
+	static final String REMAINING_CAPACITY = "omnipulse.logging.async.remaining-capacity";
+	static final String SUPPRESSED = "omnipulse.logging.duplicates.suppressed";
+
+	private final LoggerContext loggerContext;
+
+	public LoggingPipelineMetrics() {
+		this(LoggerFactory.getILoggerFactory());
+	}
+
+	LoggingPipelineMetrics(ILoggerFactory loggerFactory) {
+		this.loggerContext = loggerFactory instanceof LoggerContext context ? context : null;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (loggerContext == null) {
+			return;
+		}
+		for (LevelAwareAsyncAppender appender : asyncAppenders()) {
+			String name = appender.getName();
+			FunctionCounter.builder(EVENTS, appender, LevelAwareAsyncAppender::getEnqueuedCount)
+					.tags("appender", name, "outcome", "enqueued", "reason", "none")
+					.register(registry);
+			for (String reason : new String[]{
+					LevelAwareAsyncAppender.REASON_LEVEL,
+					LevelAwareAsyncAppender.REASON_RING_BUFFER_FULL,
+					LevelAwareAsyncAppender.REASON_SHUTDOWN}) {
+				FunctionCounter.builder(EVENTS, appender, a -> a.getDroppedCount(reason))
+						.tags("appender", name, "outcome", "dropped", "reason", reason)
+						.register(registry);
+			}
+			Gauge.builder(REMAINING_CAPACITY, appender, LevelAwareAsyncAppender::remainingCapacity)
+					.tag("appender", name)
+					.register(registry);
+		}
+		for (TurboFilter filter : loggerContext.getTurboFilterList()) {
+			if (filter instanceof DuplicateExceptionFilter duplicates) {
+				FunctionCounter.builder(SUPPRESSED, duplicates, DuplicateExceptionFilter::getSuppressedCount)
+						.register(registry);
+			}
+		}
+	}
+
+	private Iterable<LevelAwareAsyncAppender> asyncAppenders() {
+		Map<LevelAwareAsyncAppender, Boolean> found = new IdentityHashMap<>();
+		for (Logger logger : loggerContext.getLoggerList()) {
+			for (Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders(); it.hasNext(); ) {
+				if (it.next() instanceof LevelAwareAsyncAppender appender) {
+					found.put(appender, Boolean.TRUE);
+				}
+			}
+		}
+		return found.keySet();
+	}
+}
@@ -0,0 +1,38 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import net.logstash.logback.composite.AbstractJsonProvider;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes {@code userId}, {@code tenantId} and {@code correlationId} from the event's fixed context slots. Falls
+ * back to MDC lookups when {@link RequestContextMdcAdapter} is not installed.
+ */
+public class RequestContextJsonProvider extends AbstractJsonProvider<ILoggingEvent> {
+
+	@Override
+	public void writeTo(JsonGenerator generator, ILoggingEvent event) throws IOException {
+		Map<String, String> mdc = event.getMDCPropertyMap();
+		if (mdc instanceof RequestContextPropertyMap map) {
+			RequestContext context = map.context();
+			writeField(generator, UserContext.KEY_USER, context.userId());
+			writeField(generator, UserContext.KEY_TENANT, context.tenantId());
+			writeField(generator, UserContext.KEY_CORRELATION, context.correlationId());
+		} else if (!mdc.isEmpty()) {
+			writeField(generator, UserContext.KEY_USER, mdc.get(UserContext.KEY_USER));
+			writeField(generator, UserContext.KEY_TENANT, mdc.get(UserContext.KEY_TENANT));
+			writeField(generator, UserContext.KEY_CORRELATION, mdc.get(UserContext.KEY_CORRELATION));
+		}
+	}
+
+	private static void writeField(JsonGenerator generator, String name, String value) throws IOException {
+		if (value != null) {
+			generator.writeStringField(name, value);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import org.slf4j.MDC;
+
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Logback MDC adapter that serves {@code userId}, {@code tenantId} and {@code correlationId} straight from
+ * {@link UserContext} instead of the MDC map. While installed, {@code UserContext} stops writing those keys, so
+ * binding a request no longer invalidates Logback's copy-on-write MDC snapshot.
+ * <p>
+ * Every other key is delegated to the adapter behind {@link MDC}, so code using {@code MDC.put} is unaffected.
+ * Logback takes the snapshot on the logging thread, which keeps the fields correct behind async appenders.
+ * <p>
+ * SLF4J's static {@link MDC} keeps talking to Logback's original adapter, so {@code MDC.get("correlationId")}
+ * and {@code MDC.getCopyOfContextMap()} no longer see the three keys. Read them from {@link UserContext} and
+ * hand work to other threads with {@link UserContext#wrap(Runnable)} rather than by copying the MDC map.
+ */
+public class RequestContextMdcAdapter extends LogbackMDCAdapter {
+
+	private final LogbackMDCAdapter delegate;
+	private final UserContext.MdcMirroringSuppression mirroringSuppression;
+
+	RequestContextMdcAdapter(LogbackMDCAdapter delegate) {
+		this.delegate = delegate;
+		this.mirroringSuppression = UserContext.suppressMdcMirroring();
+	}
+
+	/**
+	 * Installs the adapter on the given context, once.
+	 *
+	 * @return {@code false} when SLF4J is not bound to Logback's own adapter
+	 */
+	public static boolean install(LoggerContext loggerContext) {
+		if (loggerContext.getMDCAdapter() instanceof RequestContextMdcAdapter) {
+			return true;
+		}
+		if (!(MDC.getMDCAdapter() instanceof LogbackMDCAdapter slf4jAdapter)) {
+			return false;
+		}
+		loggerContext.setMDCAdapter(new RequestContextMdcAdapter(slf4jAdapter));
+		return true;
+	}
+
+	/**
+	 * Puts Logback's own adapter back and lets {@code UserContext} write the MDC keys again.
+	 */
+	public static void uninstall(LoggerContext loggerContext) {
+		if (loggerContext.getMDCAdapter() instanceof RequestContextMdcAdapter adapter) {
+			loggerContext.setMDCAdapter(adapter.delegate);
+			adapter.mirroringSuppression.close();
+		}
+	}
+
+	@Override
+	public Map<String, String> getPropertyMap() {
+		RequestContext context = UserContext.current();
+		Map<String, String> others = delegate.getPropertyMap();
+		if (context.isEmpty()) {
+			return others;
+		}
+		return new RequestContextPropertyMap(context, others == null ? Map.of() : others);
+	}
+
+	@Override
+	public String get(String key) {
+		return switch (key) {
+			case UserContext.KEY_USER -> UserContext.getUserId();
+			case UserContext.KEY_TENANT -> UserContext.getTenantId();
+			case UserContext.KEY_CORRELATION -> UserContext.getCorrelationId();
+			default -> delegate.get(key);
+		};
+	}
+
+	@Override
+	public void put(String key, String val) {
+		delegate.put(key, val);
+	}
+
+	@Override
+	public void remove(String key) {
+		delegate.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, String> getCopyOfContextMap() {
+		RequestContext context = UserContext.current();
+		Map<String, String> others = delegate.getCopyOfContextMap();
+		if (context.isEmpty()) {
+			return others;
+		}
+		return new HashMap<>(new RequestContextPropertyMap(context, others == null ? Map.of() : others));
+	}
+
+	@Override
+	public Set<String> getKeys() {
+		Map<String, String> copy = getCopyOfContextMap();
+		return copy == null ? null : copy.keySet();
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public void setContextMap(Map contextMap) {
+		delegate.setContextMap(contextMap);
+	}
+
+	@Override
+	public void pushByKey(String key, String value) {
+		delegate.pushByKey(key, value);
+	}
+
+	@Override
+	public String popByKey(String key) {
+		return delegate.popByKey(key);
+	}
+
+	@Override
+	public Deque<String> getCopyOfDequeByKey(String key) {
+		return delegate.getCopyOfDequeByKey(key);
+	}
+
+	@Override
+	public void clearDequeByKey(String key) {
+		delegate.clearDequeByKey(key);
+	}
+}
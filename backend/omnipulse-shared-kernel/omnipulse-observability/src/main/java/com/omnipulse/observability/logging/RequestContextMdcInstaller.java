@@ -0,0 +1,58 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import ch.qos.logback.core.spi.LifeCycle;
+
+/**
+ * Installs {@link RequestContextMdcAdapter} from the Logback configuration:
+ * {@code <contextListener class="com.omnipulse.observability.logging.RequestContextMdcInstaller"/>}.
+ */
+public class RequestContextMdcInstaller extends ContextAwareBase implements LoggerContextListener, LifeCycle {
+
+	private boolean started;
+
+	@Override
+	public void start() {
+		if (!RequestContextMdcAdapter.install((LoggerContext) getContext())) {
+			addWarn("SLF4J is not bound to Logback's MDC adapter; request context stays in the MDC map");
+		}
+		started = true;
+	}
+
+	@Override
+	public void stop() {
+		RequestContextMdcAdapter.uninstall((LoggerContext) getContext());
+		started = false;
+	}
+
+	@Override
+	public boolean isStarted() {
+		return started;
+	}
+
+	@Override
+	public boolean isResetResistant() {
+		return true;
+	}
+
+	@Override
+	public void onStart(LoggerContext context) {
+	}
+
+	@Override
+	public void onReset(LoggerContext context) {
+	}
+
+	@Override
+	public void onStop(LoggerContext context) {
+		stop();
+	}
+
+	@Override
+	public void onLevelChange(Logger logger, Level level) {
+	}
+}
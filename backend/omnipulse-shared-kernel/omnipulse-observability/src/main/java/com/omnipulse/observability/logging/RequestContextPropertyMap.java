@@ -0,0 +1,89 @@
+package com.omnipulse.observability.logging;
+
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only MDC snapshot of a log event: the bound {@link RequestContext} in its fixed slots plus the other MDC
+ * entries, shared as is. Lookups of the context keys never touch a map; entries are materialized only when
+ * something iterates the whole map.
+ */
+public final class RequestContextPropertyMap extends AbstractMap<String, String> {
+
+	private final RequestContext context;
+	private final Map<String, String> others;
+
+	RequestContextPropertyMap(RequestContext context, Map<String, String> others) {
+		this.context = context;
+		this.others = others;
+	}
+
+	public RequestContext context() {
+		return context;
+	}
+
+	@Override
+	public String get(Object key) {
+		if (UserContext.KEY_USER.equals(key)) {
+			return context.userId();
+		}
+		if (UserContext.KEY_TENANT.equals(key)) {
+			return context.tenantId();
+		}
+		if (UserContext.KEY_CORRELATION.equals(key)) {
+			return context.correlationId();
+		}
+		return others.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		List<Entry<String, String>> own = new ArrayList<>(3);
+		addIfPresent(own, UserContext.KEY_USER, context.userId());
+		addIfPresent(own, UserContext.KEY_TENANT, context.tenantId());
+		addIfPresent(own, UserContext.KEY_CORRELATION, context.correlationId());
+		Set<Entry<String, String>> otherEntries = others.entrySet();
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<String, String>> iterator() {
+				Iterator<Entry<String, String>> first = own.iterator();
+				Iterator<Entry<String, String>> second = otherEntries.iterator();
+				return new Iterator<>() {
+					@Override
+					public boolean hasNext() {
+						return first.hasNext() || second.hasNext();
+					}
+
+					@Override
+					public Entry<String, String> next() {
+						return first.hasNext() ? first.next() : second.next();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return own.size() + otherEntries.size();
+			}
+		};
+	}
+
+	private static void addIfPresent(List<Entry<String, String>> entries, String key, String value) {
+		if (value != null) {
+			entries.add(new SimpleImmutableEntry<>(key, value));
+		}
+	}
+}
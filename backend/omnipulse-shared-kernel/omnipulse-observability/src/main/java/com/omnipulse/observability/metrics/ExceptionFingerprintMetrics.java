@@ -0,0 +1,34 @@
+package com.omnipulse.observability.metrics;
+
+import com.omnipulse.common.exception.ExceptionFingerprints;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes {@value #METRIC_NAME} counters tagged with the exception's simple class name and its fingerprint, for
+ * fingerprints already seen and every new one as it appears. Cardinality is bounded by
+ * {@code omnipulse.observability.logging.max-exception-fingerprints}.
+ */
+@RequiredArgsConstructor
+public class ExceptionFingerprintMetrics implements MeterBinder {
+
+	public static final String METRIC_NAME = "omnipulse.exceptions";
+
+	private final ExceptionFingerprints exceptionFingerprints;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		exceptionFingerprints.onNewFingerprint(fingerprint -> register(registry, fingerprint));
+		exceptionFingerprints.getFingerprints().forEach(fingerprint -> register(registry, fingerprint));
+	}
+
+	private static void register(MeterRegistry registry, ExceptionFingerprints.Fingerprint fingerprint) {
+		String type = fingerprint.getType();
+		FunctionCounter.builder(METRIC_NAME, fingerprint, ExceptionFingerprints.Fingerprint::getCount)
+				.tag("exception", type.substring(type.lastIndexOf('.') + 1))
+				.tag("fingerprint", fingerprint.getId())
+				.register(registry);
+	}
+}
@@ -0,0 +1,40 @@
+package com.omnipulse.observability.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits the first {@code maxTenants} distinct tenant IDs as tag values and folds every later tenant into
+ * {@value #OTHER}, so the number of time series per timer stays bounded however many tenants call in.
+ */
+public class TenantTagLimiter {
+
+	public static final String NONE = "none";
+	public static final String OTHER = "other";
+
+	private final int maxTenants;
+	private final Set<String> admitted = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger slots = new AtomicInteger();
+
+	public TenantTagLimiter(int maxTenants) {
+		this.maxTenants = maxTenants;
+	}
+
+	public String tagValue(String tenantId) {
+		if (tenantId == null || tenantId.isEmpty()) {
+			return NONE;
+		}
+		if (admitted.contains(tenantId)) {
+			return tenantId;
+		}
+		if (slots.getAndIncrement() < maxTenants) {
+			if (!admitted.add(tenantId)) {
+				slots.decrementAndGet();
+			}
+			return tenantId;
+		}
+		slots.decrementAndGet();
+		return OTHER;
+	}
+}
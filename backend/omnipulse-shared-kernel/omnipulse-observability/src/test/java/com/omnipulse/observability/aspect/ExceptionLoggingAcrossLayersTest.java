@@ -0,0 +1,118 @@
+package com.omnipulse.observability.aspect;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.omnipulse.common.exception.ExceptionFingerprints;
+import com.omnipulse.observability.ObservabilityProperties;
+import com.omnipulse.webcore.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExceptionLoggingAcrossLayersTest {
+
+	private final ExceptionFingerprints fingerprints = new ExceptionFingerprints(Duration.ofMinutes(1), 5, 200);
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+	private final Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+	private final Logger handlerLogger = (Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+	private GlobalExceptionHandler handler;
+	private OrderController controller;
+
+	@BeforeEach
+	void setUp() {
+		appender.start();
+		aspectLogger.addAppender(appender);
+		handlerLogger.addAppender(appender);
+
+		LoggingAspect aspect = new LoggingAspect(new ObservabilityProperties(), fingerprints);
+		controller = advise(new OrderController(advise(new OrderService(), aspect)), aspect);
+		handler = new GlobalExceptionHandler(new StaticListableBeanFactory(Map.of("exceptionFingerprints", fingerprints))
+				.getBeanProvider(ExceptionFingerprints.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		aspectLogger.detachAppender(appender);
+		handlerLogger.detachAppender(appender);
+	}
+
+	@Test
+	void repeatedFailure_ShouldBeLoggedOnceByTheThrowingLayerOnly() {
+		for (int i = 0; i < 3; i++) {
+			dispatch(controller::place);
+		}
+
+		assertEquals(1, appender.list.size());
+		ILoggingEvent event = appender.list.getFirst();
+		assertEquals(LoggingAspect.class.getName(), event.getLoggerName());
+		assertTrue(event.getFormattedMessage().contains(OrderService.class.getName() + ".place()"));
+		assertNotNull(event.getThrowableProxy());
+	}
+
+	@Test
+	void wrappingException_ShouldNotBeLoggedAgainByTheControllerOrTheHandler() {
+		dispatch(controller::placeWrapped);
+
+		assertEquals(1, appender.list.size());
+		assertEquals(IllegalStateException.class.getName(), appender.list.getFirst().getThrowableProxy().getClassName());
+	}
+
+	private void dispatch(Runnable endpoint) {
+		try {
+			endpoint.run();
+			fail("the endpoint should have failed");
+		} catch (RuntimeException e) {
+			assertEquals(500, handler.handleGeneralException(e, new MockHttpServletRequest()).getStatusCode().value());
+		}
+	}
+
+	private static <T> T advise(T target, LoggingAspect aspect) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		return factory.getProxy();
+	}
+
+	@Service
+	static class OrderService {
+
+		void place() {
+			throw new IllegalStateException("inventory unavailable");
+		}
+	}
+
+	@RestController
+	static class OrderController {
+
+		private final OrderService service;
+
+		OrderController(OrderService service) {
+			this.service = service;
+		}
+
+		void place() {
+			service.place();
+		}
+
+		void placeWrapped() {
+			try {
+				service.place();
+			} catch (IllegalStateException e) {
+				throw new RuntimeException("order failed", e);
+			}
+		}
+	}
+}
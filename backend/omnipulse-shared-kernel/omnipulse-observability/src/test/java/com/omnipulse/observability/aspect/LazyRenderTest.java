@@ -0,0 +1,33 @@
+package com.omnipulse.observability.aspect;
+
+import org.hibernate.collection.spi.PersistentBag;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyRenderTest {
+
+	@Test
+	void args_ShouldSummariseCollectionsMapsAndArrays() {
+		Object[] args = {"id-1", 42, List.of(1, 2, 3), Map.of("k", "v"), new int[4]};
+
+		assertEquals("[id-1, 42, ListN(size=3), Map1(size=1), int[4]]", LazyRender.args(args, 512).toString());
+	}
+
+	@Test
+	void uninitializedHibernateCollection_ShouldBeRenderedWithoutLoadingIt() {
+		// without a session, size() or iteration would throw LazyInitializationException
+		PersistentBag<String> lazy = new PersistentBag<>((SharedSessionContractImplementor) null);
+
+		assertEquals("[PersistentBag(uninitialized)]", LazyRender.args(new Object[]{lazy}, 512).toString());
+	}
+
+	@Test
+	void value_ShouldBeTruncatedToTheConfiguredLength() {
+		assertEquals("abcd...", LazyRender.value("abcdefgh", 4).toString());
+	}
+}
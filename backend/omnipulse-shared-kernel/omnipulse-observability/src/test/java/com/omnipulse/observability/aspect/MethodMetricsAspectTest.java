@@ -0,0 +1,141 @@
+package com.omnipulse.observability.aspect;
+
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.observability.ObservabilityProperties;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodMetricsAspectTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	/** SimpleMeterRegistry does not publish histogram buckets, so the requested setting is captured here. */
+	private final Map<Meter.Id, Boolean> histograms = new ConcurrentHashMap<>();
+	private final ObservabilityProperties properties = new ObservabilityProperties();
+	private SampleService service;
+
+	@BeforeEach
+	void setUp() {
+		properties.getMetrics().setMaxTenantTags(2);
+		registry.config().meterFilter(new MeterFilter() {
+			@Override
+			public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+				histograms.put(id, Boolean.TRUE.equals(config.isPercentileHistogram()));
+				return config;
+			}
+		});
+		service = advised();
+	}
+
+	private SampleService advised() {
+		AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new MethodMetricsAspect(registry, properties));
+		return factory.getProxy();
+	}
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void serviceCall_ShouldRecordTimerTaggedByLayerMethodAndTenant() {
+		UserContext.set(RequestContext.of("user-1", "tenant-a", null));
+
+		service.work();
+
+		Timer timer = registry.get(MethodMetricsAspect.METRIC_NAME)
+				.tag("layer", "service")
+				.tag("class", "SampleService")
+				.tag("method", "work")
+				.tag("outcome", "success")
+				.tag("exception", "none")
+				.tag("tenant", "tenant-a")
+				.timer();
+		assertEquals(1, timer.count());
+	}
+
+	@Test
+	void failingCall_ShouldRecordErrorOutcomeAndRethrow() {
+		assertThrows(IllegalStateException.class, service::fail);
+
+		Timer timer = registry.get(MethodMetricsAspect.METRIC_NAME)
+				.tag("outcome", "error")
+				.tag("exception", "IllegalStateException")
+				.tag("tenant", "none")
+				.timer();
+		assertEquals(1, timer.count());
+	}
+
+	@Test
+	void tenantsBeyondLimit_ShouldBeFoldedIntoOther() {
+		for (String tenant : new String[]{"t1", "t2", "t3", "t4"}) {
+			UserContext.set(RequestContext.of(null, tenant, null));
+			service.work();
+		}
+
+		assertEquals(2, registry.get(MethodMetricsAspect.METRIC_NAME).tag("tenant", "other").timer().count());
+		assertEquals(3, registry.get(MethodMetricsAspect.METRIC_NAME).timers().size());
+	}
+
+	@Test
+	void repeatedCalls_ShouldReuseOneTimerPerSeries() {
+		UserContext.set(RequestContext.of(null, "tenant-a", null));
+		service.work();
+		Timer first = registry.get(MethodMetricsAspect.METRIC_NAME).tag("method", "work").timer();
+
+		service.work();
+		service.work();
+
+		assertSame(first, registry.get(MethodMetricsAspect.METRIC_NAME).tag("method", "work").timer());
+		assertEquals(3, first.count());
+		assertEquals(1, registry.get(MethodMetricsAspect.METRIC_NAME).timers().size());
+	}
+
+	@Test
+	void defaults_ShouldNotPublishHistogramBucketsWhileTaggingTenants() {
+		UserContext.set(RequestContext.of(null, "tenant-a", null));
+		service.work();
+
+		Timer timer = registry.get(MethodMetricsAspect.METRIC_NAME).tag("tenant", "tenant-a").timer();
+		assertFalse(histograms.get(timer.getId()));
+	}
+
+	@Test
+	void tenantTagOff_ShouldDropTheTagAndPublishHistogramBuckets() {
+		properties.getMetrics().setTenantTag(false);
+		SampleService untagged = advised();
+		UserContext.set(RequestContext.of(null, "tenant-a", null));
+
+		untagged.work();
+
+		Timer timer = registry.get(MethodMetricsAspect.METRIC_NAME).tag("method", "work").timer();
+		assertNull(timer.getId().getTag("tenant"));
+		assertTrue(histograms.get(timer.getId()));
+	}
+
+	@Service
+	static class SampleService {
+
+		void work() {
+		}
+
+		void fail() {
+			throw new IllegalStateException("boom");
+		}
+	}
+}
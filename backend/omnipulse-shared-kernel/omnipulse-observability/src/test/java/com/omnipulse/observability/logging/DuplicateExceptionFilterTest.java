@@ -0,0 +1,86 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.util.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateExceptionFilterTest {
+
+	private final LoggerContext loggerContext = new LoggerContext();
+	private final AtomicLong clock = new AtomicLong();
+	private final DuplicateExceptionFilter filter = new DuplicateExceptionFilter(clock::get);
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+	private final Logger logger = loggerContext.getLogger("test");
+
+	@BeforeEach
+	void setUp() {
+		filter.setWindow(Duration.buildBySeconds(10));
+		filter.start();
+		loggerContext.addTurboFilter(filter);
+
+		appender.start();
+		logger.addAppender(appender);
+	}
+
+	@Test
+	void repeatedException_ShouldBeLoggedOncePerWindow() {
+		for (int i = 0; i < 3; i++) {
+			logger.error("Lookup failed", failure("connection refused"));
+		}
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+		logger.error("Lookup failed", failure("connection refused"));
+
+		assertEquals(2, appender.list.size());
+		assertEquals(2, filter.getSuppressedCount());
+	}
+
+	@Test
+	void throwableAsTrailingArgument_ShouldOnlyBeDeduplicatedForTheSameFormattedMessage() {
+		logger.error("Exception in {}() with cause = '{}'", "a.b", "x", failure("boom"));
+		logger.error("Exception in {}() with cause = '{}'", "c.d", "y", failure("boom"));
+		logger.error("Exception in {}() with cause = '{}'", "a.b", "x", failure("boom"));
+
+		assertEquals(2, appender.list.size());
+		assertEquals("Exception in c.d() with cause = 'y'", appender.list.get(1).getFormattedMessage());
+	}
+
+	@Test
+	void stacklessExceptionsFromDifferentMessages_ShouldNotCollapse() {
+		logger.error("Payment {} failed", "p-1", stackless("declined"));
+		logger.error("Refund {} failed", "r-1", stackless("declined"));
+		logger.error("Payment {} failed", "p-1", stackless("declined"));
+
+		assertEquals(2, appender.list.size());
+	}
+
+	@Test
+	void differentMessageOrPlainEvents_ShouldPassThrough() {
+		logger.error("Lookup failed", failure("connection refused"));
+		logger.error("Lookup failed", failure("timed out"));
+		logger.error("no throwable");
+		logger.error("no throwable");
+
+		assertEquals(4, appender.list.size());
+		assertEquals(0, filter.getSuppressedCount());
+	}
+
+	private static IllegalStateException stackless(String message) {
+		IllegalStateException failure = new IllegalStateException(message);
+		failure.setStackTrace(new StackTraceElement[0]);
+		return failure;
+	}
+
+	private static IllegalStateException failure(String message) {
+		// Same throwing frame on every call
+		return new IllegalStateException(message);
+	}
+}
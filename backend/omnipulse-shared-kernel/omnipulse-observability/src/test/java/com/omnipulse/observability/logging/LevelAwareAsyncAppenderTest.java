@@ -0,0 +1,130 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.util.Duration;
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelAwareAsyncAppenderTest {
+
+	private final LoggerContext loggerContext = new LoggerContext();
+	private final BlockingAppender delegate = new BlockingAppender();
+	private final LevelAwareAsyncAppender appender = new LevelAwareAsyncAppender();
+	private final Logger logger = loggerContext.getLogger("test");
+
+	@BeforeEach
+	void setUp() {
+		RequestContextMdcAdapter.install(loggerContext);
+
+		delegate.setContext(loggerContext);
+		delegate.start();
+
+		appender.setContext(loggerContext);
+		appender.setName("ASYNC");
+		appender.setRingBufferSize(8);
+		appender.setDiscardingThreshold(4);
+		appender.setAppendTimeout(Duration.buildByMilliseconds(0));
+		appender.setAddDefaultStatusListener(false);
+		appender.addAppender(delegate);
+		appender.start();
+
+		logger.setAdditive(false);
+		logger.addAppender(appender);
+	}
+
+	@AfterEach
+	void tearDown() {
+		delegate.release.countDown();
+		loggerContext.stop();
+		RequestContextMdcAdapter.uninstall(loggerContext);
+		UserContext.clear();
+		MDC.clear();
+	}
+
+	@Test
+	void events_ShouldReachDelegateOnWorkerThreadWithCallerContext() throws InterruptedException {
+		delegate.release.countDown();
+		UserContext.set(RequestContext.of("user-1", "tenant-a", "corr-1"));
+
+		logger.info("hello");
+		UserContext.clear();
+
+		ILoggingEvent event = delegate.awaitFirst();
+		assertNotEquals(Thread.currentThread().getName(), delegate.threadName);
+		assertEquals("tenant-a", event.getMDCPropertyMap().get(UserContext.KEY_TENANT));
+		assertEquals(1, appender.getEnqueuedCount());
+	}
+
+	@Test
+	void shortRingBuffer_ShouldDropInfoFirstAndCountEveryOutcome() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new LoggingPipelineMetrics(loggerContext).bindTo(registry);
+
+		for (int i = 0; i < 5; i++) {
+			logger.warn("warn {}", i);
+		}
+		logger.info("dropped by level");
+		for (int i = 0; i < 5; i++) {
+			logger.error("error {}", i);
+		}
+
+		assertEquals(1, appender.getDroppedCount(LevelAwareAsyncAppender.REASON_LEVEL));
+		assertTrue(appender.getDroppedCount(LevelAwareAsyncAppender.REASON_RING_BUFFER_FULL) >= 1,
+				"errors past capacity are dropped once the append timeout passes");
+		assertEquals(10, appender.getEnqueuedCount() + appender.getDroppedCount(LevelAwareAsyncAppender.REASON_RING_BUFFER_FULL));
+		assertEquals(appender.getEnqueuedCount(), counter(registry, "enqueued", "none"));
+		assertEquals(1, counter(registry, "dropped", LevelAwareAsyncAppender.REASON_LEVEL));
+		assertEquals(0, registry.get(LoggingPipelineMetrics.REMAINING_CAPACITY).gauge().value());
+	}
+
+	private static double counter(SimpleMeterRegistry registry, String outcome, String reason) {
+		return registry.get(LoggingPipelineMetrics.EVENTS)
+				.tags("appender", "ASYNC", "outcome", outcome, "reason", reason)
+				.functionCounter()
+				.count();
+	}
+
+	/**
+	 * Holds the worker thread on the first event until released, keeping the ring buffer from draining.
+	 */
+	static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch received = new CountDownLatch(1);
+		final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+		volatile String threadName;
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			threadName = Thread.currentThread().getName();
+			events.add(event);
+			received.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		ILoggingEvent awaitFirst() throws InterruptedException {
+			assertTrue(received.await(5, TimeUnit.SECONDS));
+			return events.getFirst();
+		}
+	}
+}
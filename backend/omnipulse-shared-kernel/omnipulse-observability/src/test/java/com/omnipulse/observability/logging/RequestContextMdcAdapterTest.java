@@ -0,0 +1,110 @@
+package com.omnipulse.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestContextMdcAdapterTest {
+
+	private final LoggerContext loggerContext = new LoggerContext();
+
+	@BeforeEach
+	void setUp() {
+		assertTrue(RequestContextMdcAdapter.install(loggerContext));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextMdcAdapter.uninstall(loggerContext);
+		UserContext.clear();
+		MDC.clear();
+	}
+
+	@Test
+	void events_ShouldCarryContextFromFixedSlotsAlongsideOtherMdcKeys() {
+		MDC.put("traceId", "trace-1");
+		UserContext.set(RequestContext.of("user-1", "tenant-a", "corr-1"));
+
+		Map<String, String> mdc = event().getMDCPropertyMap();
+
+		assertInstanceOf(RequestContextPropertyMap.class, mdc);
+		assertEquals(Map.of("traceId", "trace-1", "userId", "user-1", "tenantId", "tenant-a", "correlationId", "corr-1"),
+				Map.copyOf(mdc));
+		assertNull(MDC.get(UserContext.KEY_TENANT), "context keys are no longer written to the MDC map");
+		assertEquals("tenant-a", loggerContext.getMDCAdapter().get(UserContext.KEY_TENANT));
+	}
+
+	@Test
+	void clear_ShouldWipeTheMdcAndKeepTakenSnapshots() {
+		MDC.put("traceId", "trace-1");
+		UserContext.set(RequestContext.of("user-1", "tenant-a", null));
+		ILoggingEvent event = event();
+		event.prepareForDeferredProcessing();
+
+		UserContext.clear();
+
+		assertNull(MDC.get("traceId"));
+		assertEquals("tenant-a", event.getMDCPropertyMap().get(UserContext.KEY_TENANT));
+		assertEquals("trace-1", event.getMDCPropertyMap().get("traceId"));
+		assertEquals(Map.of(), Map.copyOf(event().getMDCPropertyMap()));
+	}
+
+	@Test
+	void slf4jMdc_ShouldNotSeeContextKeysWhileTheAdapterServesThem() {
+		MDC.put("traceId", "trace-1");
+		UserContext.set(RequestContext.of("user-1", "tenant-a", "corr-1"));
+
+		// documented: the static SLF4J facade still talks to Logback's original adapter
+		assertNull(MDC.get(UserContext.KEY_CORRELATION));
+		assertEquals(Map.of("traceId", "trace-1"), MDC.getCopyOfContextMap());
+
+		assertEquals(Map.of("traceId", "trace-1", "userId", "user-1", "tenantId", "tenant-a", "correlationId", "corr-1"),
+				loggerContext.getMDCAdapter().getCopyOfContextMap());
+	}
+
+	@Test
+	void uninstall_ShouldRestoreLogbackAdapterAndMdcMirroring() {
+		RequestContextMdcAdapter.uninstall(loggerContext);
+
+		assertFalse(loggerContext.getMDCAdapter() instanceof RequestContextMdcAdapter);
+		assertTrue(UserContext.isMdcMirroring());
+		UserContext.set(RequestContext.of("user-1", "tenant-a", "corr-1"));
+		assertEquals("corr-1", MDC.get(UserContext.KEY_CORRELATION));
+	}
+
+	@Test
+	void jsonProvider_ShouldWriteContextFieldsAndSkipMissingOnes() throws IOException {
+		UserContext.set(RequestContext.of("user-1", "tenant-a", null));
+
+		assertEquals("{\"userId\":\"user-1\",\"tenantId\":\"tenant-a\"}", render(event()));
+	}
+
+	private ILoggingEvent event() {
+		return new LoggingEvent(getClass().getName(), loggerContext.getLogger("test"), Level.INFO, "message", null, null);
+	}
+
+	private static String render(ILoggingEvent event) throws IOException {
+		StringWriter json = new StringWriter();
+		try (JsonGenerator generator = new JsonFactory().createGenerator(json)) {
+			generator.writeStartObject();
+			new RequestContextJsonProvider().writeTo(generator, event);
+			generator.writeEndObject();
+		}
+		return json.toString();
+	}
+}
@@ -0,0 +1,47 @@
+package com.omnipulse.observability.metrics;
+
+import com.omnipulse.common.exception.ExceptionFingerprints;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExceptionFingerprintMetricsTest {
+
+	private final ExceptionFingerprints fingerprints = new ExceptionFingerprints();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void fingerprintsSeenBeforeAndAfterBinding_ShouldBeCounted() {
+		String before = fingerprints.record(new IllegalStateException("before")).fingerprint();
+		new ExceptionFingerprintMetrics(fingerprints).bindTo(registry);
+		for (int i = 0; i < 3; i++) {
+			fingerprints.record(new IllegalArgumentException("after"));
+		}
+
+		assertEquals(1, registry.get(ExceptionFingerprintMetrics.METRIC_NAME)
+				.tags("exception", "IllegalStateException", "fingerprint", before)
+				.functionCounter()
+				.count());
+		assertEquals(3, registry.get(ExceptionFingerprintMetrics.METRIC_NAME)
+				.tag("exception", "IllegalArgumentException")
+				.functionCounter()
+				.count());
+	}
+
+	@Test
+	void secondRegistry_ShouldNotTakeNewFingerprintsAwayFromTheFirst() {
+		SimpleMeterRegistry second = new SimpleMeterRegistry();
+		new ExceptionFingerprintMetrics(fingerprints).bindTo(registry);
+		new ExceptionFingerprintMetrics(fingerprints).bindTo(second);
+
+		fingerprints.record(new IllegalArgumentException("after"));
+
+		for (SimpleMeterRegistry each : new SimpleMeterRegistry[]{registry, second}) {
+			assertEquals(1, each.get(ExceptionFingerprintMetrics.METRIC_NAME)
+					.tag("exception", "IllegalArgumentException")
+					.functionCounter()
+					.count());
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.omnipulse.security.bulkhead;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-flight cap that adapts with additive-increase / multiplicative-decrease, after the AIMD limit in Netflix
+ * concurrency-limits. A request that finishes within {@code latencyThresholdNanos} while the limit was at
+ * least half used grows the limit by one; a slow or dropped request shrinks it by {@code backoffRatio}.
+ * Queues therefore never build up behind a degraded dependency: the limit falls until latency recovers.
+ */
+public class AimdConcurrencyLimit {
+
+	/**
+	 * Returned by {@link #tryAcquire()} once {@link TenantBulkheads} has retired this limiter; look it up again.
+	 */
+	public static final int RETIRED = -2;
+
+	private static final int RETIRED_MARK = Integer.MIN_VALUE;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final long latencyThresholdNanos;
+
+	private final AtomicInteger limit;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private volatile long idleSinceNanos = System.nanoTime();
+
+	public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+	                            long latencyThresholdNanos) {
+		if (minLimit < 1 || maxLimit < minLimit) {
+			throw new IllegalArgumentException("limits must satisfy 1 <= min <= max");
+		}
+		if (backoffRatio <= 0 || backoffRatio >= 1) {
+			throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.latencyThresholdNanos = latencyThresholdNanos;
+		this.limit = new AtomicInteger(Math.clamp(initialLimit, minLimit, maxLimit));
+	}
+
+	/**
+	 * @return the in-flight count including this request, {@code -1} when the limit is reached, or
+	 * {@link #RETIRED} when this limiter has been dropped from its {@link TenantBulkheads}
+	 */
+	public int tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current < 0) {
+				return RETIRED;
+			}
+			if (current >= limit.get()) {
+				return -1;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return current + 1;
+			}
+		}
+	}
+
+	/**
+	 * Returns the permit and feeds the observed latency into the limit.
+	 *
+	 * @param inFlightAtStart value returned by {@link #tryAcquire()}
+	 * @param dropped         the request failed in a way that signals overload
+	 */
+	public void release(int inFlightAtStart, long latencyNanos, boolean dropped) {
+		releasePermit();
+		if (dropped || latencyNanos > latencyThresholdNanos) {
+			limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+		} else if (inFlightAtStart * 2 >= limit.get()) {
+			limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+		}
+	}
+
+	/**
+	 * Returns the permit without adjusting the limit, for requests whose latency says nothing about capacity.
+	 */
+	public void releaseIgnored() {
+		releasePermit();
+	}
+
+	/**
+	 * Retires the limiter if nothing holds a permit. Done as one CAS on the in-flight count, so no request can
+	 * acquire a permit on a limiter that is being dropped.
+	 */
+	boolean retireIfIdle() {
+		return inFlight.compareAndSet(0, RETIRED_MARK);
+	}
+
+	/**
+	 * {@link #retireIfIdle()}, but only once the last permit was returned before {@code cutoffNanos}
+	 * ({@link System#nanoTime()} scale).
+	 */
+	boolean retireIfIdleSince(long cutoffNanos) {
+		return idleSinceNanos - cutoffNanos <= 0 && retireIfIdle();
+	}
+
+	private void releasePermit() {
+		if (inFlight.decrementAndGet() == 0) {
+			idleSinceNanos = System.nanoTime();
+		}
+	}
+
+	public int getLimit() {
+		return limit.get();
+	}
+
+	public int getInFlight() {
+		return Math.max(0, inFlight.get());
+	}
+}
@@ -0,0 +1,73 @@
+package com.omnipulse.security.bulkhead;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * One {@link AimdConcurrencyLimit} per tenant, so a tenant whose requests turn slow only shrinks its own
+ * limit. Only limiters with nothing in flight are ever dropped: those idle for {@code idleTimeout}, and any
+ * idle ones once {@code maximumTenants} is reached. A tenant holding permits therefore keeps the limiter that
+ * counts them, and can never get a second, empty one. Sweeps run on the lookup path when a new tenant shows up,
+ * so {@code maximumTenants} is a soft bound that busy tenants may exceed.
+ */
+public class TenantBulkheads {
+
+	private final Map<String, AimdConcurrencyLimit> limits = new ConcurrentHashMap<>();
+	private final Supplier<AimdConcurrencyLimit> factory;
+	private final long maximumTenants;
+	private final long idleTimeoutNanos;
+	private final AtomicLong nextSweep;
+
+	public TenantBulkheads(Supplier<AimdConcurrencyLimit> factory, long maximumTenants, Duration idleTimeout,
+	                       MeterRegistry meterRegistry) {
+		this.factory = factory;
+		this.maximumTenants = maximumTenants;
+		this.idleTimeoutNanos = idleTimeout.toNanos();
+		this.nextSweep = new AtomicLong(System.nanoTime() + idleTimeoutNanos);
+		Gauge.builder("omnipulse.security.bulkhead.inflight", limits,
+						map -> map.values().stream().mapToInt(AimdConcurrencyLimit::getInFlight).sum())
+				.description("Requests currently holding a tenant bulkhead permit")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * The tenant's current limiter. A concurrent sweep may retire it before the caller acquires; callers that get
+	 * {@link AimdConcurrencyLimit#RETIRED} from {@code tryAcquire()} look the tenant up again.
+	 */
+	public AimdConcurrencyLimit forTenant(String tenantId) {
+		AimdConcurrencyLimit limit = limits.get(tenantId);
+		if (limit != null) {
+			return limit;
+		}
+		sweepIfDue(System.nanoTime());
+		return limits.computeIfAbsent(tenantId, k -> factory.get());
+	}
+
+	int size() {
+		return limits.size();
+	}
+
+	private void sweepIfDue(long now) {
+		long due = nextSweep.get();
+		boolean full = limits.size() >= maximumTenants;
+		if ((full || now - due >= 0) && nextSweep.compareAndSet(due, now + idleTimeoutNanos)) {
+			sweep(now);
+		}
+	}
+
+	void sweep(long now) {
+		long idleCutoff = now - idleTimeoutNanos;
+		limits.forEach((tenantId, limit) -> {
+			boolean retired = limits.size() >= maximumTenants ? limit.retireIfIdle() : limit.retireIfIdleSince(idleCutoff);
+			if (retired) {
+				limits.remove(tenantId, limit);
+			}
+		});
+	}
+}
@@ -0,0 +1,34 @@
+package com.omnipulse.security.config;
+
+import com.omnipulse.security.bulkhead.AimdConcurrencyLimit;
+import com.omnipulse.security.bulkhead.TenantBulkheads;
+import com.omnipulse.security.filter.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "omnipulse.security.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+	@Bean
+	public TenantBulkheads tenantBulkheads(ConcurrencyLimitProperties properties,
+	                                       ObjectProvider<MeterRegistry> meterRegistry) {
+		return new TenantBulkheads(() -> new AimdConcurrencyLimit(properties.getInitialLimit(),
+				properties.getMinLimit(), properties.getMaxLimit(), properties.getBackoffRatio(),
+				properties.getLatencyThreshold().toNanos()),
+				properties.getMaximumTenants(), properties.getIdleTimeout(),
+				meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+
+	@Bean
+	public ConcurrencyLimitFilter concurrencyLimitFilter(TenantBulkheads tenantBulkheads,
+	                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+		return new ConcurrencyLimitFilter(tenantBulkheads, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+}
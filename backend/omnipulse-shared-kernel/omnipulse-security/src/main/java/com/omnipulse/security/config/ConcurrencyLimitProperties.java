@@ -0,0 +1,30 @@
+package com.omnipulse.security.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.security.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+	private boolean enabled = false;
+
+	private int initialLimit = 20;
+	private int minLimit = 2;
+	private int maxLimit = 200;
+
+	/**
+	 * Factor applied to a tenant's limit after a slow or dropped request.
+	 */
+	private double backoffRatio = 0.9;
+
+	/**
+	 * Requests slower than this count as an overload signal.
+	 */
+	private Duration latencyThreshold = Duration.ofSeconds(2);
+
+	private long maximumTenants = 10_000;
+	private Duration idleTimeout = Duration.ofMinutes(10);
+}
@@ -0,0 +1,33 @@
+package com.omnipulse.security.config;
+
+import com.omnipulse.security.propagation.CorrelationIdClientInterceptor;
+import com.omnipulse.security.propagation.CorrelationIdExchangeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class CorrelationIdPropagationConfig {
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "org.springframework.web.client.RestClient")
+	static class RestClientPropagation {
+
+		@Bean
+		public RestClientCustomizer correlationIdRestClientCustomizer() {
+			return builder -> builder.requestInterceptor(new CorrelationIdClientInterceptor());
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClient")
+	static class WebClientPropagation {
+
+		@Bean
+		public WebClientCustomizer correlationIdWebClientCustomizer() {
+			return builder -> builder.filter(new CorrelationIdExchangeFilter());
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.omnipulse.security.config;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.DefaultJOSEObjectTypeVerifier;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.omnipulse.security.jwt.CachingJwtDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.*;
+
+import java.io.Closeable;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableConfigurationProperties({JwtDecoderProperties.class, OAuth2ResourceServerProperties.class})
+public class JwtDecoderConfig {
+
+	@Bean
+	@ConditionalOnMissingBean(JwtDecoder.class)
+	@ConditionalOnProperty(prefix = "spring.security.oauth2.resourceserver.jwt", name = "jwk-set-uri")
+	public JwtDecoder jwtDecoder(OAuth2ResourceServerProperties resourceServerProperties,
+	                             JwtDecoderProperties properties,
+	                             ObjectProvider<MeterRegistry> meterRegistry) throws MalformedURLException {
+		OAuth2ResourceServerProperties.Jwt jwtProperties = resourceServerProperties.getJwt();
+		JWKSource<SecurityContext> jwkSource = jwkSource(jwtProperties.getJwkSetUri(), properties.getJwks());
+
+		NimbusJwtDecoder nimbusDecoder = new NimbusJwtDecoder(jwtProcessor(jwkSource, jwtProperties.getJwsAlgorithms()));
+		nimbusDecoder.setJwtValidator(validator(jwtProperties));
+
+		// The refresh-ahead JWKSource owns a scheduler thread; whichever decoder is returned must close it.
+		Closeable jwkSourceCloser = () -> {
+			if (jwkSource instanceof Closeable closeable) {
+				closeable.close();
+			}
+		};
+
+		JwtDecoderProperties.Cache cache = properties.getCache();
+		if (!cache.isEnabled()) {
+			return new ResourceOwningJwtDecoder(nimbusDecoder, jwkSourceCloser);
+		}
+		return new CachingJwtDecoder(nimbusDecoder, cache.getMaximumSize(), cache.getMaxTimeToLive(),
+				meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), jwkSourceCloser);
+	}
+
+	private static JWKSource<SecurityContext> jwkSource(String jwkSetUri, JwtDecoderProperties.Jwks jwks)
+			throws MalformedURLException {
+		return JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+				.cache(jwks.getTimeToLive().toMillis(), jwks.getRefreshTimeout().toMillis())
+				.refreshAheadCache(jwks.getRefreshAhead().toMillis(), true)
+				.outageTolerant(jwks.getOutageTolerance().toMillis())
+				.build();
+	}
+
+	private static DefaultJWTProcessor<SecurityContext> jwtProcessor(JWKSource<SecurityContext> jwkSource,
+	                                                                List<String> jwsAlgorithms) {
+		Set<JWSAlgorithm> algorithms = jwsAlgorithms.stream()
+				.map(JWSAlgorithm::parse)
+				.collect(Collectors.toSet());
+
+		DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+		processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSource));
+		processor.setJWSTypeVerifier(new DefaultJOSEObjectTypeVerifier<>(
+				JOSEObjectType.JWT, new JOSEObjectType("at+jwt"), null));
+		// Claims are validated by Spring's OAuth2TokenValidator chain below.
+		processor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+		return processor;
+	}
+
+	private static OAuth2TokenValidator<Jwt> validator(OAuth2ResourceServerProperties.Jwt jwtProperties) {
+		List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
+		String issuerUri = jwtProperties.getIssuerUri();
+		validators.add(issuerUri != null ? JwtValidators.createDefaultWithIssuer(issuerUri) : JwtValidators.createDefault());
+
+		List<String> audiences = jwtProperties.getAudiences();
+		if (!audiences.isEmpty()) {
+			validators.add(new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+					aud -> aud != null && aud.stream().anyMatch(audiences::contains)));
+		}
+		return new DelegatingOAuth2TokenValidator<>(validators);
+	}
+
+	/**
+	 * Uncached decoder that still releases the JWK source when the context shuts down.
+	 */
+	static final class ResourceOwningJwtDecoder implements JwtDecoder, DisposableBean {
+
+		private final JwtDecoder delegate;
+		private final Closeable resources;
+
+		ResourceOwningJwtDecoder(JwtDecoder delegate, Closeable resources) {
+			this.delegate = delegate;
+			this.resources = resources;
+		}
+
+		@Override
+		public Jwt decode(String token) throws JwtException {
+			return delegate.decode(token);
+		}
+
+		@Override
+		public void destroy() throws Exception {
+			resources.close();
+		}
+	}
+}
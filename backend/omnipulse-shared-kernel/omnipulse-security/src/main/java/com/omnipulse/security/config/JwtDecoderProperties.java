@@ -0,0 +1,29 @@
+package com.omnipulse.security.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.security.jwt")
+public class JwtDecoderProperties {
+
+	private final Cache cache = new Cache();
+	private final Jwks jwks = new Jwks();
+
+	@Data
+	public static class Cache {
+		private boolean enabled = true;
+		private long maximumSize = 10_000;
+		private Duration maxTimeToLive = Duration.ofMinutes(5);
+	}
+
+	@Data
+	public static class Jwks {
+		private Duration timeToLive = Duration.ofMinutes(10);
+		private Duration refreshAhead = Duration.ofMinutes(1);
+		private Duration refreshTimeout = Duration.ofSeconds(15);
+		private Duration outageTolerance = Duration.ofHours(1);
+	}
+}
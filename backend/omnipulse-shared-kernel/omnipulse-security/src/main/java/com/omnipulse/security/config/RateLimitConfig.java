@@ -0,0 +1,32 @@
+package com.omnipulse.security.config;
+
+import com.omnipulse.security.filter.RateLimitFilter;
+import com.omnipulse.security.ratelimit.LocalRateLimiterStore;
+import com.omnipulse.security.ratelimit.RateLimiterStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "omnipulse.security.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig {
+
+	@Bean
+	@ConditionalOnMissingBean(RateLimiterStore.class)
+	public RateLimiterStore rateLimiterStore(RateLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+		return new LocalRateLimiterStore(properties.getMaximumBuckets(), properties.getIdleTimeout(),
+				meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+
+	@Bean
+	public RateLimitFilter rateLimitFilter(RateLimiterStore rateLimiterStore, RateLimitProperties properties,
+	                                       ObjectProvider<MeterRegistry> meterRegistry) {
+		return new RateLimitFilter(rateLimiterStore, properties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+}
@@ -0,0 +1,47 @@
+package com.omnipulse.security.config;
+
+import com.omnipulse.security.ratelimit.Quota;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.security.rate-limit")
+public class RateLimitProperties {
+
+	private boolean enabled = false;
+
+	/**
+	 * JWT claim carrying the tenant's tier; {@link #tenantTiers} and then {@link #defaultTier} apply when absent.
+	 */
+	private String tierClaim = "tenant_tier";
+	private String defaultTier = "standard";
+	private Map<String, String> tenantTiers = new HashMap<>();
+	private Map<String, Tier> tiers = new HashMap<>(Map.of("standard", new Tier()));
+
+	private long maximumBuckets = 100_000;
+	private Duration idleTimeout = Duration.ofMinutes(5);
+
+	@Data
+	public static class Tier {
+		private Limit tenant = new Limit(500, Duration.ofSeconds(1));
+		private Limit user = new Limit(50, Duration.ofSeconds(1));
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Limit {
+		private long capacity;
+		private Duration period;
+
+		public Quota toQuota() {
+			return new Quota(capacity, period);
+		}
+	}
+}
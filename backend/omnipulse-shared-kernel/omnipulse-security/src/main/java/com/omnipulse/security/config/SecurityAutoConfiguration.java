@@ -1,9 +1,18 @@
 package com.omnipulse.security.config;
 
+import com.omnipulse.security.filter.TenantContextFilter;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
+import org.springframework.context.annotation.Import;
 
-@AutoConfiguration
-@ComponentScan(basePackages = "com.omnipulse.security")
+@AutoConfiguration(before = OAuth2ResourceServerAutoConfiguration.class)
+@Import({
+		SecurityConfig.class,
+		TenantContextFilter.class,
+		JwtDecoderConfig.class,
+		CorrelationIdPropagationConfig.class,
+		RateLimitConfig.class,
+		ConcurrencyLimitConfig.class
+})
 public class SecurityAutoConfiguration {
 }
@@ -1,7 +1,10 @@
 package com.omnipulse.security.config;
 
+import com.omnipulse.security.filter.ConcurrencyLimitFilter;
+import com.omnipulse.security.filter.RateLimitFilter;
 import com.omnipulse.security.filter.TenantContextFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -19,6 +22,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
 	private final TenantContextFilter tenantContextFilter;
+	private final ObjectProvider<RateLimitFilter> rateLimitFilter;
+	private final ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilter;
 
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -36,6 +41,10 @@ public class SecurityConfig {
 				)
 				.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> {}))
 				.addFilterAfter(tenantContextFilter, UsernamePasswordAuthenticationFilter.class);
+		rateLimitFilter.ifAvailable(filter -> http.addFilterAfter(filter, TenantContextFilter.class));
+		// Rate-limited requests are turned away before they take a bulkhead permit
+		concurrencyLimitFilter.ifAvailable(filter -> http.addFilterAfter(filter,
+				rateLimitFilter.getIfAvailable() != null ? RateLimitFilter.class : TenantContextFilter.class));
 
 		return http.build();
 	}
@@ -0,0 +1,154 @@
+package com.omnipulse.security.filter;
+
+import com.omnipulse.common.dto.response.ErrorResponseTemplates;
+import com.omnipulse.common.enums.ApiResponseCode;
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.security.bulkhead.AimdConcurrencyLimit;
+import com.omnipulse.security.bulkhead.TenantBulkheads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-tenant bulkhead: each tenant gets an adaptive in-flight cap and requests beyond it are shed immediately
+ * with 503 rather than queued for a worker thread or a pooled connection. A 503/504 from downstream or an
+ * async timeout counts as a drop and shrinks the tenant's limit. Async requests hold their permit until the
+ * async cycle completes. Requests without a tenant are not limited.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	private static final String METRIC_NAME = "omnipulse.security.bulkhead.requests";
+
+	private final TenantBulkheads bulkheads;
+	private final Counter accepted;
+	private final Counter rejected;
+
+	public ConcurrencyLimitFilter(TenantBulkheads bulkheads, MeterRegistry meterRegistry) {
+		this.bulkheads = bulkheads;
+		this.accepted = Counter.builder(METRIC_NAME)
+				.description("Requests checked against a tenant bulkhead")
+				.tag("outcome", "accepted")
+				.register(meterRegistry);
+		this.rejected = Counter.builder(METRIC_NAME)
+				.description("Requests checked against a tenant bulkhead")
+				.tag("outcome", "rejected")
+				.register(meterRegistry);
+	}
+
+	@Override
+	protected void doFilterInternal(@NonNull HttpServletRequest request,
+	                                @NonNull HttpServletResponse response,
+	                                @NonNull FilterChain filterChain) throws ServletException, IOException {
+		String tenantId = UserContext.getTenantId();
+		if (tenantId == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		AimdConcurrencyLimit limit;
+		int inFlight;
+		do {
+			limit = bulkheads.forTenant(tenantId);
+			inFlight = limit.tryAcquire();
+		} while (inFlight == AimdConcurrencyLimit.RETIRED);
+		if (inFlight < 0) {
+			rejected.increment();
+			log.debug("Bulkhead full for tenant {} (limit {})", tenantId, limit.getLimit());
+			reject(response);
+			return;
+		}
+		accepted.increment();
+
+		Permit permit = new Permit(limit, inFlight, System.nanoTime());
+		boolean async = false;
+		try {
+			filterChain.doFilter(request, response);
+			async = request.isAsyncStarted();
+			if (async) {
+				request.getAsyncContext().addListener(permit);
+			}
+		} catch (IOException | ServletException | RuntimeException ex) {
+			permit.releaseIgnored();
+			throw ex;
+		}
+		if (!async) {
+			permit.release(isDropped(response.getStatus()));
+		}
+	}
+
+	private static void reject(HttpServletResponse response) throws IOException {
+		response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		byte[] body = ErrorResponseTemplates.render(ApiResponseCode.SERVICE_UNAVAILABLE,
+				"Too many concurrent requests for this tenant, retry shortly");
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private static boolean isDropped(int status) {
+		return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+	}
+
+	private static final class Permit implements AsyncListener {
+
+		private final AimdConcurrencyLimit limit;
+		private final int inFlightAtStart;
+		private final long startNanos;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit(AimdConcurrencyLimit limit, int inFlightAtStart, long startNanos) {
+			this.limit = limit;
+			this.inFlightAtStart = inFlightAtStart;
+			this.startNanos = startNanos;
+		}
+
+		void release(boolean dropped) {
+			if (released.compareAndSet(false, true)) {
+				limit.release(inFlightAtStart, System.nanoTime() - startNanos, dropped);
+			}
+		}
+
+		void releaseIgnored() {
+			if (released.compareAndSet(false, true)) {
+				limit.releaseIgnored();
+			}
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+			release(response != null && isDropped(response.getStatus()));
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			release(true);
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			releaseIgnored();
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.omnipulse.security.filter;
+
+import com.omnipulse.common.dto.response.ErrorResponseTemplates;
+import com.omnipulse.common.enums.ApiResponseCode;
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.security.config.RateLimitProperties;
+import com.omnipulse.security.ratelimit.Quota;
+import com.omnipulse.security.ratelimit.RateLimitDecision;
+import com.omnipulse.security.ratelimit.RateLimiterStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Token-bucket limits per user ({@code sub}) and per tenant ({@code tenant_id}), with quotas taken from the
+ * tenant's tier. Runs after {@link TenantContextFilter} and reads the identity it bound; anonymous requests are
+ * not limited. The user bucket is checked first so a single noisy caller is turned away before it drains the
+ * tenant's shared budget; if the tenant bucket then rejects, the user permit already taken is refunded.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final String METRIC_NAME = "omnipulse.security.ratelimit.requests";
+
+	private final RateLimiterStore store;
+	private final RateLimitProperties properties;
+	private final Map<String, TierQuotas> tiers;
+	private final TierQuotas defaultTier;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+	public RateLimitFilter(RateLimiterStore store, RateLimitProperties properties, MeterRegistry meterRegistry) {
+		this.store = store;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.tiers = properties.getTiers().entrySet().stream()
+				.collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> TierQuotas.of(e.getKey(), e.getValue())));
+		this.defaultTier = tiers.getOrDefault(properties.getDefaultTier(),
+				TierQuotas.of(properties.getDefaultTier(), new RateLimitProperties.Tier()));
+	}
+
+	@Override
+	protected void doFilterInternal(@NonNull HttpServletRequest request,
+	                                @NonNull HttpServletResponse response,
+	                                @NonNull FilterChain filterChain) throws ServletException, IOException {
+		String tenantId = UserContext.getTenantId();
+		String userId = UserContext.getUserId();
+		if (tenantId == null && userId == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		TierQuotas tier = resolveTier(tenantId);
+		String userKey = userId != null ? "u:" + tenantId + ":" + userId : null;
+		if (userKey != null && !acquire("user", tier, userKey, tier.user(), response)) {
+			return;
+		}
+		if (tenantId != null && !acquire("tenant", tier, "t:" + tenantId, tier.tenant(), response)) {
+			// the request never ran, so the user's permit goes back rather than counting against them
+			if (userKey != null) {
+				store.release(userKey, tier.user());
+			}
+			return;
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	private boolean acquire(String scope, TierQuotas tier, String key, Quota quota, HttpServletResponse response)
+			throws IOException {
+		RateLimitDecision decision = store.tryAcquire(key, quota);
+		counter(scope, tier.name(), decision.allowed()).increment();
+		if (decision.allowed()) {
+			return true;
+		}
+
+		long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+		log.debug("Rate limit exceeded: scope={}, key={}, retryAfter={}s", scope, key, retryAfterSeconds);
+
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		byte[] body = ErrorResponseTemplates.render(ApiResponseCode.TOO_MANY_REQUESTS,
+				"Rate limit exceeded for " + scope + ", retry after " + retryAfterSeconds + "s");
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+		return false;
+	}
+
+	private TierQuotas resolveTier(String tenantId) {
+		String name = null;
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication instanceof JwtAuthenticationToken jwtAuthToken) {
+			name = jwtAuthToken.getToken().getClaimAsString(properties.getTierClaim());
+		}
+		if (name == null && tenantId != null) {
+			name = properties.getTenantTiers().get(tenantId);
+		}
+		return name == null ? defaultTier : tiers.getOrDefault(name, defaultTier);
+	}
+
+	private Counter counter(String scope, String tier, boolean allowed) {
+		String outcome = allowed ? "allowed" : "rejected";
+		return counters.computeIfAbsent(scope + '|' + tier + '|' + outcome, k -> Counter.builder(METRIC_NAME)
+				.description("Requests checked against a rate limit bucket")
+				.tag("scope", scope)
+				.tag("tier", tier)
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+	}
+
+	private record TierQuotas(String name, Quota tenant, Quota user) {
+
+		static TierQuotas of(String name, RateLimitProperties.Tier tier) {
+			return new TierQuotas(name, tier.getTenant().toQuota(), tier.getUser().toQuota());
+		}
+	}
+}
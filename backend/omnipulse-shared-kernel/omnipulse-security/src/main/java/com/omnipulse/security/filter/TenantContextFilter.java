@@ -1,6 +1,8 @@
 package com.omnipulse.security.filter;
 
+import com.omnipulse.common.util.RequestContext;
 import com.omnipulse.common.util.UserContext;
+import com.omnipulse.common.util.UuidV7;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,13 +17,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 @Slf4j
 @Component
 public class TenantContextFilter extends OncePerRequestFilter {
 
-	private static final String HEADER_CORRELATION_ID = "X-Correlation-ID";
+	public static final String HEADER_CORRELATION_ID = "X-Correlation-ID";
+	private static final int MAX_CORRELATION_ID_LENGTH = 128;
 
 	@Override
 	protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -29,22 +31,21 @@ public class TenantContextFilter extends OncePerRequestFilter {
 	                                @NonNull FilterChain filterChain) throws ServletException, IOException {
 		try {
 			String correlationId = request.getHeader(HEADER_CORRELATION_ID);
-			if (correlationId == null) {
-				correlationId = UUID.randomUUID().toString();
+			if (correlationId == null || correlationId.isBlank() || correlationId.length() > MAX_CORRELATION_ID_LENGTH) {
+				correlationId = UuidV7.next().toString();
 			}
-			UserContext.setCorrelationId(correlationId);
+			response.setHeader(HEADER_CORRELATION_ID, correlationId);
 
+			String userId = null;
+			String tenantId = null;
 			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 			if (authentication instanceof JwtAuthenticationToken jwtAuthToken) {
 				Jwt jwt = jwtAuthToken.getToken();
-				String userId = jwt.getSubject();
-				UserContext.setUserId(userId);
-				String tenantId = jwt.getClaimAsString("tenant_id");
-				if (tenantId != null) {
-					UserContext.setTenantId(tenantId);
-				}
+				userId = jwt.getSubject();
+				tenantId = jwt.getClaimAsString("tenant_id");
 				log.trace("Context set for User: {}, Tenant: {}", userId, tenantId);
 			}
+			UserContext.set(RequestContext.of(userId, tenantId, correlationId));
 
 			filterChain.doFilter(request, response);
 
@@ -0,0 +1,134 @@
+package com.omnipulse.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Reuses the result of a successful signature and claim validation until the token expires (capped by
+ * {@code maxTimeToLive}). Entries are keyed by the SHA-256 of the raw token, so a cache hit implies the
+ * exact same bytes were already verified. Failures are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder, AutoCloseable {
+
+	private static final String CACHE_NAME = "omnipulse.jwt";
+
+	private final JwtDecoder delegate;
+	private final Cache<String, Jwt> verified;
+	private final Timer verifyTimer;
+	private final Clock clock;
+	private final Closeable resources;
+
+	public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTimeToLive,
+	                         MeterRegistry meterRegistry, Closeable resources) {
+		this(delegate, maximumSize, maxTimeToLive, meterRegistry, resources, Clock.systemUTC());
+	}
+
+	CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTimeToLive,
+	                  MeterRegistry meterRegistry, Closeable resources, Clock clock) {
+		this.delegate = delegate;
+		this.clock = clock;
+		this.resources = resources;
+		this.verified = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new TokenExpiry(maxTimeToLive, clock))
+				.recordStats()
+				.build();
+		this.verifyTimer = Timer.builder("omnipulse.security.jwt.verify")
+				.description("Full JWT signature and claim verification on cache miss")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		if (token == null) {
+			return delegate.decode(null);
+		}
+
+		String key = fingerprint(token);
+		Jwt cached = verified.getIfPresent(key);
+		if (cached != null && !isExpired(cached)) {
+			return cached;
+		}
+
+		Timer.Sample sample = Timer.start();
+		Jwt jwt;
+		try {
+			jwt = delegate.decode(token);
+		} finally {
+			sample.stop(verifyTimer);
+		}
+		verified.put(key, jwt);
+		return jwt;
+	}
+
+	@Override
+	public void close() {
+		verified.invalidateAll();
+		if (resources != null) {
+			try {
+				resources.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private boolean isExpired(Jwt jwt) {
+		Instant expiresAt = jwt.getExpiresAt();
+		return expiresAt != null && !expiresAt.isAfter(clock.instant());
+	}
+
+	private static String fingerprint(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private record TokenExpiry(Duration maxTimeToLive, Clock clock) implements Expiry<String, Jwt> {
+
+		@Override
+		public long expireAfterCreate(@NonNull String key, @NonNull Jwt jwt, long currentTime) {
+			long cap = maxTimeToLive.toNanos();
+			Instant expiresAt = jwt.getExpiresAt();
+			if (expiresAt == null) {
+				return cap;
+			}
+			long untilExpiry = Duration.between(clock.instant(), expiresAt).toNanos();
+			return Math.max(0, Math.min(cap, untilExpiry));
+		}
+
+		@Override
+		public long expireAfterUpdate(@NonNull String key, @NonNull Jwt jwt, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, jwt, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(@NonNull String key, @NonNull Jwt jwt, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.omnipulse.security.propagation;
+
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.security.filter.TenantContextFilter;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+
+public class CorrelationIdClientInterceptor implements ClientHttpRequestInterceptor {
+
+	@NonNull
+	@Override
+	public ClientHttpResponse intercept(@NonNull HttpRequest request, @NonNull byte[] body,
+	                                    @NonNull ClientHttpRequestExecution execution) throws IOException {
+		String correlationId = UserContext.getCorrelationId();
+		if (correlationId != null && !request.getHeaders().containsKey(TenantContextFilter.HEADER_CORRELATION_ID)) {
+			request.getHeaders().set(TenantContextFilter.HEADER_CORRELATION_ID, correlationId);
+		}
+		return execution.execute(request, body);
+	}
+}
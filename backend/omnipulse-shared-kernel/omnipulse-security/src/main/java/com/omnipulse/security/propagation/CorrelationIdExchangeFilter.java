@@ -0,0 +1,29 @@
+package com.omnipulse.security.propagation;
+
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.security.filter.TenantContextFilter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads the correlation ID on the thread that triggers the exchange, which for the blocking MVC services
+ * built on this kernel is the request thread calling {@code block()} or {@code retrieve()}.
+ */
+public class CorrelationIdExchangeFilter implements ExchangeFilterFunction {
+
+	@NonNull
+	@Override
+	public Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+		String correlationId = UserContext.getCorrelationId();
+		if (correlationId == null || request.headers().containsKey(TenantContextFilter.HEADER_CORRELATION_ID)) {
+			return next.exchange(request);
+		}
+		return next.exchange(ClientRequest.from(request)
+				.header(TenantContextFilter.HEADER_CORRELATION_ID, correlationId)
+				.build());
+	}
+}
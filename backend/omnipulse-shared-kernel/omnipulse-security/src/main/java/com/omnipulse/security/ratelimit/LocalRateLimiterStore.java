@@ -0,0 +1,51 @@
+package com.omnipulse.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process buckets in a Caffeine map: lookups are striped across the map's bins and each bucket is its own
+ * CAS cell, so tenants never contend with each other. Buckets idle for longer than {@code idleTimeout} are
+ * dropped; that only loses state once the bucket would have refilled anyway, as long as the timeout is at
+ * least the longest quota period.
+ */
+public class LocalRateLimiterStore implements RateLimiterStore {
+
+	private final Cache<String, TokenBucket> buckets;
+	private final LongSupplier nanoClock;
+
+	public LocalRateLimiterStore(long maximumBuckets, Duration idleTimeout, MeterRegistry meterRegistry) {
+		this(maximumBuckets, idleTimeout, meterRegistry, System::nanoTime);
+	}
+
+	LocalRateLimiterStore(long maximumBuckets, Duration idleTimeout, MeterRegistry meterRegistry,
+	                      LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+		this.buckets = Caffeine.newBuilder()
+				.maximumSize(maximumBuckets)
+				.expireAfterAccess(idleTimeout)
+				.build();
+		Gauge.builder("omnipulse.security.ratelimit.buckets", buckets, Cache::estimatedSize)
+				.description("Rate limit buckets currently held in memory")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public RateLimitDecision tryAcquire(String key, Quota quota) {
+		long now = nanoClock.getAsLong();
+		return buckets.get(key, k -> new TokenBucket(now)).tryAcquire(quota, now);
+	}
+
+	@Override
+	public void release(String key, Quota quota) {
+		TokenBucket bucket = buckets.getIfPresent(key);
+		if (bucket != null) {
+			bucket.release(quota);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.omnipulse.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * A bucket of {@code capacity} permits that refills completely over {@code period}; the capacity is also the
+ * largest burst a caller can spend at once.
+ */
+public record Quota(long capacity, Duration period) {
+
+	public Quota {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		if (period == null || period.isZero() || period.isNegative()) {
+			throw new IllegalArgumentException("period must be positive");
+		}
+	}
+
+	/**
+	 * Time one permit takes to drip back into the bucket.
+	 */
+	public long emissionIntervalNanos() {
+		return Math.max(1, period.toNanos() / capacity);
+	}
+}
@@ -0,0 +1,14 @@
+package com.omnipulse.security.ratelimit;
+
+import java.time.Duration;
+
+public record RateLimitDecision(boolean allowed, long remaining, Duration retryAfter) {
+
+	public static RateLimitDecision allowed(long remaining) {
+		return new RateLimitDecision(true, remaining, Duration.ZERO);
+	}
+
+	public static RateLimitDecision rejected(Duration retryAfter) {
+		return new RateLimitDecision(false, 0, retryAfter);
+	}
+}
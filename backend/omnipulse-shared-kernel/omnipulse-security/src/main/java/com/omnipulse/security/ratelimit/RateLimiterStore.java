@@ -0,0 +1,23 @@
+package com.omnipulse.security.ratelimit;
+
+/**
+ * Holds the bucket state behind {@link com.omnipulse.security.filter.RateLimitFilter}. The default
+ * {@link LocalRateLimiterStore} keeps it in-process, so each instance enforces its own share of the quota;
+ * declare a bean of this type to back the buckets with a shared store instead.
+ * <p>
+ * Implementations are called on every request and must be thread-safe and non-blocking where possible.
+ */
+public interface RateLimiterStore {
+
+	/**
+	 * Takes one permit from the bucket identified by {@code key}, creating it full if it does not exist yet.
+	 */
+	RateLimitDecision tryAcquire(String key, Quota quota);
+
+	/**
+	 * Returns a permit taken by {@link #tryAcquire} that ended up unused, e.g. because a later bucket in the same
+	 * request rejected it. Stores that cannot refund may ignore the call.
+	 */
+	default void release(String key, Quota quota) {
+	}
+}
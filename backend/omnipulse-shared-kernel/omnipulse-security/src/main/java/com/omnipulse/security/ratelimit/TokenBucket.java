@@ -0,0 +1,42 @@
+package com.omnipulse.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single "theoretical arrival time" (the GCRA form): the instant at which the bucket
+ * would be full again. Taking a permit pushes it forward by one emission interval, so the whole state fits
+ * in one {@link AtomicLong} and is updated with a CAS instead of a lock.
+ */
+final class TokenBucket {
+
+	private final AtomicLong theoreticalArrival;
+
+	TokenBucket(long nowNanos) {
+		this.theoreticalArrival = new AtomicLong(nowNanos);
+	}
+
+	RateLimitDecision tryAcquire(Quota quota, long nowNanos) {
+		long interval = quota.emissionIntervalNanos();
+		long tolerance = interval * quota.capacity();
+		while (true) {
+			long current = theoreticalArrival.get();
+			long next = Math.max(current, nowNanos) + interval;
+			long ahead = next - nowNanos;
+			if (ahead > tolerance) {
+				return RateLimitDecision.rejected(Duration.ofNanos(ahead - tolerance));
+			}
+			if (theoreticalArrival.compareAndSet(current, next)) {
+				return RateLimitDecision.allowed((tolerance - ahead) / interval);
+			}
+		}
+	}
+
+	/**
+	 * Pulls the arrival time back by one interval. Going below "now" is harmless: {@link #tryAcquire} clamps to
+	 * the current time, so a refund can never lift the bucket above its capacity.
+	 */
+	void release(Quota quota) {
+		theoreticalArrival.addAndGet(-quota.emissionIntervalNanos());
+	}
+}
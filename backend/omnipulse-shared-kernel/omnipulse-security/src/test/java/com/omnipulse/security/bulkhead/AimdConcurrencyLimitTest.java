@@ -0,0 +1,59 @@
+package com.omnipulse.security.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdConcurrencyLimitTest {
+
+	private static final long THRESHOLD = Duration.ofMillis(100).toNanos();
+	private static final long FAST = Duration.ofMillis(5).toNanos();
+
+	@Test
+	void tryAcquire_AtLimit_ShouldRejectUntilAPermitIsReleased() {
+		AimdConcurrencyLimit limit = new AimdConcurrencyLimit(2, 1, 10, 0.5, THRESHOLD);
+
+		int first = limit.tryAcquire();
+		assertEquals(1, first);
+		assertEquals(2, limit.tryAcquire());
+		assertEquals(-1, limit.tryAcquire());
+
+		limit.releaseIgnored();
+
+		assertEquals(2, limit.tryAcquire());
+	}
+
+	@Test
+	void release_FastWhileUtilized_ShouldGrowLimitByOne() {
+		AimdConcurrencyLimit limit = new AimdConcurrencyLimit(4, 1, 10, 0.5, THRESHOLD);
+		limit.tryAcquire();
+		int inFlight = limit.tryAcquire();
+
+		limit.release(inFlight, FAST, false);
+
+		assertEquals(5, limit.getLimit());
+	}
+
+	@Test
+	void release_FastButMostlyIdle_ShouldKeepLimit() {
+		AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 1, 20, 0.5, THRESHOLD);
+
+		limit.release(limit.tryAcquire(), FAST, false);
+
+		assertEquals(10, limit.getLimit());
+	}
+
+	@Test
+	void release_SlowOrDropped_ShouldBackOffButNotBelowMinimum() {
+		AimdConcurrencyLimit limit = new AimdConcurrencyLimit(8, 3, 10, 0.5, THRESHOLD);
+
+		limit.release(limit.tryAcquire(), THRESHOLD + 1, false);
+		assertEquals(4, limit.getLimit());
+
+		limit.release(limit.tryAcquire(), FAST, true);
+		assertEquals(3, limit.getLimit());
+		assertEquals(0, limit.getInFlight());
+	}
+}
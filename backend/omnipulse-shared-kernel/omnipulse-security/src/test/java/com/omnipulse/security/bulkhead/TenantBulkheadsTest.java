@@ -0,0 +1,60 @@
+package com.omnipulse.security.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantBulkheadsTest {
+
+	private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void overCapacity_ShouldNeverDropATenantHoldingPermits() {
+		TenantBulkheads bulkheads = bulkheads(1);
+		AimdConcurrencyLimit acme = bulkheads.forTenant("acme");
+		assertTrue(acme.tryAcquire() > 0);
+
+		bulkheads.forTenant("globex");
+
+		assertSame(acme, bulkheads.forTenant("acme"));
+		assertEquals(1, meterRegistry.get("omnipulse.security.bulkhead.inflight").gauge().value());
+	}
+
+	@Test
+	void overCapacity_ShouldDropIdleTenants() {
+		TenantBulkheads bulkheads = bulkheads(1);
+		AimdConcurrencyLimit acme = bulkheads.forTenant("acme");
+		assertTrue(acme.tryAcquire() > 0);
+		acme.releaseIgnored();
+
+		bulkheads.forTenant("globex");
+
+		assertEquals(1, bulkheads.size());
+		assertEquals(AimdConcurrencyLimit.RETIRED, acme.tryAcquire());
+		assertNotSame(acme, bulkheads.forTenant("acme"));
+	}
+
+	@Test
+	void sweep_ShouldDropOnlyTenantsIdleForTheTimeout() {
+		TenantBulkheads bulkheads = bulkheads(100);
+		AimdConcurrencyLimit idle = bulkheads.forTenant("idle");
+		AimdConcurrencyLimit busy = bulkheads.forTenant("busy");
+		assertTrue(busy.tryAcquire() > 0);
+
+		bulkheads.sweep(System.nanoTime() + IDLE_TIMEOUT.toNanos() + 1);
+
+		assertEquals(AimdConcurrencyLimit.RETIRED, idle.tryAcquire());
+		assertSame(busy, bulkheads.forTenant("busy"));
+		assertEquals(1, bulkheads.size());
+	}
+
+	private TenantBulkheads bulkheads(long maximumTenants) {
+		return new TenantBulkheads(() -> new AimdConcurrencyLimit(10, 1, 10, 0.5, Duration.ofSeconds(1).toNanos()),
+				maximumTenants, IDLE_TIMEOUT, meterRegistry);
+	}
+}
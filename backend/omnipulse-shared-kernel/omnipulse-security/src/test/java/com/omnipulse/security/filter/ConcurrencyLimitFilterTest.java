@@ -0,0 +1,82 @@
+package com.omnipulse.security.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.security.bulkhead.AimdConcurrencyLimit;
+import com.omnipulse.security.bulkhead.TenantBulkheads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+	private final TenantBulkheads bulkheads = new TenantBulkheads(
+			() -> new AimdConcurrencyLimit(1, 1, 1, 0.5, Duration.ofSeconds(1).toNanos()),
+			100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+	private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(bulkheads, new SimpleMeterRegistry());
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void doFilter_TenantAtLimit_ShouldShedWith503() throws Exception {
+		UserContext.set(RequestContext.of("user-1", "acme", "corr"));
+		AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+		MockHttpServletResponse outer = call((req, res) -> nested.set(call(new MockFilterChain())));
+
+		assertEquals(200, outer.getStatus());
+		MockHttpServletResponse shed = nested.get();
+		assertEquals(503, shed.getStatus());
+		assertEquals("1", shed.getHeader("Retry-After"));
+		JsonNode body = new ObjectMapper().readTree(shed.getContentAsByteArray());
+		assertEquals("5003", body.get("errorCode").asText());
+		assertEquals(0, bulkheads.forTenant("acme").getInFlight());
+	}
+
+	@Test
+	void doFilter_OtherTenantSaturated_ShouldNotAffectThisTenant() throws Exception {
+		UserContext.set(RequestContext.of("user-1", "acme", "corr"));
+		AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+		call((req, res) -> {
+			UserContext.setTenantId("globex");
+			nested.set(call(new MockFilterChain()));
+		});
+
+		assertEquals(200, nested.get().getStatus());
+	}
+
+	@Test
+	void doFilter_ChainThrows_ShouldReleasePermit() {
+		UserContext.set(RequestContext.of("user-1", "acme", "corr"));
+
+		assertThrows(IllegalStateException.class, () -> call((req, res) -> {
+			throw new IllegalStateException("boom");
+		}));
+
+		assertEquals(0, bulkheads.forTenant("acme").getInFlight());
+	}
+
+	private MockHttpServletResponse call(FilterChain chain) throws ServletException, IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		// A fresh request per call so OncePerRequestFilter does not skip nested invocations
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/items"), response, chain);
+		return response;
+	}
+}
@@ -0,0 +1,114 @@
+package com.omnipulse.security.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import com.omnipulse.security.config.RateLimitProperties;
+import com.omnipulse.security.ratelimit.LocalRateLimiterStore;
+import com.omnipulse.security.ratelimit.Quota;
+import com.omnipulse.security.ratelimit.RateLimitDecision;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private LocalRateLimiterStore store;
+	private RateLimitFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.getTiers().get("standard").setUser(new RateLimitProperties.Limit(2, Duration.ofMinutes(1)));
+		RateLimitProperties.Tier premium = new RateLimitProperties.Tier();
+		premium.setUser(new RateLimitProperties.Limit(5, Duration.ofMinutes(1)));
+		properties.getTiers().put("premium", premium);
+
+		RateLimitProperties.Tier strict = new RateLimitProperties.Tier();
+		strict.setTenant(new RateLimitProperties.Limit(1, Duration.ofMinutes(1)));
+		strict.setUser(new RateLimitProperties.Limit(2, Duration.ofMinutes(1)));
+		properties.getTiers().put("strict", strict);
+		properties.getTenantTiers().put("tiny", "strict");
+
+		store = new LocalRateLimiterStore(100, Duration.ofMinutes(5), meterRegistry);
+		filter = new RateLimitFilter(store, properties, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void doFilter_OverUserQuota_ShouldReturn429WithRetryAfterAndErrorBody() throws Exception {
+		UserContext.set(RequestContext.of("user-1", "acme", "corr"));
+
+		assertEquals(200, call().getStatus());
+		assertEquals(200, call().getStatus());
+		MockHttpServletResponse rejected = call();
+
+		assertEquals(429, rejected.getStatus());
+		assertEquals("30", rejected.getHeader("Retry-After"));
+		JsonNode body = new ObjectMapper().readTree(rejected.getContentAsByteArray());
+		assertEquals("FAIL", body.get("status").asText());
+		assertEquals("4029", body.get("errorCode").asText());
+		assertEquals(1.0, meterRegistry.get("omnipulse.security.ratelimit.requests")
+				.tags("scope", "user", "tier", "standard", "outcome", "rejected").counter().count());
+	}
+
+	@Test
+	void doFilter_TierClaimPresent_ShouldApplyThatTiersQuota() throws Exception {
+		UserContext.set(RequestContext.of("user-1", "acme", "corr"));
+		Jwt jwt = Jwt.withTokenValue("t").header("alg", "none").subject("user-1")
+				.claim("tenant_id", "acme").claim("tenant_tier", "premium")
+				.issuedAt(Instant.now()).expiresAt(Instant.now().plusSeconds(60)).build();
+		SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(200, call().getStatus());
+		}
+		assertEquals(429, call().getStatus());
+	}
+
+	@Test
+	void doFilter_TenantRejects_ShouldRefundTheUserPermit() throws Exception {
+		UserContext.set(RequestContext.of("user-1", "tiny", "corr"));
+
+		assertEquals(200, call().getStatus());
+		assertEquals(429, call().getStatus());
+
+		RateLimitDecision userBucket = store.tryAcquire("u:tiny:user-1", new Quota(2, Duration.ofMinutes(1)));
+		assertTrue(userBucket.allowed());
+		assertEquals(0, userBucket.remaining());
+	}
+
+	@Test
+	void doFilter_Anonymous_ShouldNotBeLimited() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			assertEquals(200, call().getStatus());
+		}
+	}
+
+	private MockHttpServletResponse call() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain chain = new MockFilterChain();
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/items"), response, chain);
+		return response;
+	}
+}
@@ -22,8 +22,11 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -78,9 +81,36 @@ class TenantContextFilterTest {
 		tenantContextFilter.doFilterInternal(request, response, filterChain);
 
 		verify(filterChain).doFilter(request, response);
+		verify(response).setHeader(eq("X-Correlation-ID"), argThat(id -> UUID.fromString(id).version() == 7));
 		assertNull(UserContext.getCorrelationId());
 	}
 
+	@Test
+	void doFilterInternal_WithCorrelationIdHeader_ShouldEchoItOnResponse() throws ServletException, IOException {
+
+		when(request.getHeader("X-Correlation-ID")).thenReturn("upstream-id-1");
+		when(securityContext.getAuthentication()).thenReturn(null);
+
+		tenantContextFilter.doFilterInternal(request, response, filterChain);
+
+		verify(response).setHeader("X-Correlation-ID", "upstream-id-1");
+	}
+
+	@Test
+	void doFilterInternal_WithOversizedCorrelationIdHeader_ShouldReplaceIt() throws ServletException, IOException {
+
+		when(request.getHeader("X-Correlation-ID")).thenReturn("x".repeat(129));
+		when(securityContext.getAuthentication()).thenReturn(null);
+
+		doAnswer(invocation -> {
+			assertEquals(7, UUID.fromString(UserContext.getCorrelationId()).version());
+			return null;
+		}).when(filterChain).doFilter(request, response);
+
+		tenantContextFilter.doFilterInternal(request, response, filterChain);
+		verify(filterChain).doFilter(request, response);
+	}
+
 
 	@Test
 	void doFilterInternal_WithJwtAuthenticationAndTenantId_ShouldSetUserAndTenantContext() throws ServletException, IOException {
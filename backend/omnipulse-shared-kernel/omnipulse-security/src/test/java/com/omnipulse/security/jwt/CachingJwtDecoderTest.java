@@ -0,0 +1,158 @@
+package com.omnipulse.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.omnipulse.security.config.JwtDecoderConfig;
+import com.omnipulse.security.config.JwtDecoderProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingJwtDecoderTest {
+
+	private HttpServer jwksServer;
+	private RSAKey signingKey;
+	private final AtomicInteger jwksRequests = new AtomicInteger();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private CachingJwtDecoder decoder;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		signingKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+		byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+		jwksServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		jwksServer.createContext("/jwks", exchange -> {
+			jwksRequests.incrementAndGet();
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, jwks.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(jwks);
+			}
+		});
+		jwksServer.start();
+
+		OAuth2ResourceServerProperties resourceServerProperties = new OAuth2ResourceServerProperties();
+		resourceServerProperties.getJwt().setJwkSetUri("http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/jwks");
+		decoder = (CachingJwtDecoder) new JwtDecoderConfig().jwtDecoder(resourceServerProperties,
+				new JwtDecoderProperties(), meterRegistryProvider());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		decoder.close();
+		jwksServer.stop(0);
+	}
+
+	@Test
+	void decode_SameTokenTwice_ShouldVerifyOnceAndFetchJwksOnce() throws Exception {
+		String token = sign("user-1", Instant.now().plusSeconds(300));
+
+		Jwt first = decoder.decode(token);
+		Jwt second = decoder.decode(token);
+
+		assertSame(first, second);
+		assertEquals("user-1", second.getSubject());
+		assertEquals(1, meterRegistry.get("omnipulse.security.jwt.verify").timer().count());
+		assertEquals(1, jwksRequests.get());
+	}
+
+	@Test
+	void decode_DifferentTokens_ShouldVerifyEachButReuseKeys() throws Exception {
+		decoder.decode(sign("user-1", Instant.now().plusSeconds(300)));
+		decoder.decode(sign("user-2", Instant.now().plusSeconds(300)));
+
+		assertEquals(2, meterRegistry.get("omnipulse.security.jwt.verify").timer().count());
+		assertEquals(1, jwksRequests.get());
+	}
+
+	@Test
+	void decode_TamperedToken_ShouldBeRejectedEvenAfterOriginalWasCached() throws Exception {
+		String token = sign("user-1", Instant.now().plusSeconds(300));
+		decoder.decode(token);
+
+		String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+		assertThrows(JwtException.class, () -> decoder.decode(tampered));
+	}
+
+	@Test
+	void decode_ExpiredToken_ShouldBeRejectedAndNotCached() throws Exception {
+		String token = sign("user-1", Instant.now().minusSeconds(600));
+
+		assertThrows(JwtException.class, () -> decoder.decode(token));
+		assertThrows(JwtException.class, () -> decoder.decode(token));
+		assertEquals(2, meterRegistry.get("omnipulse.security.jwt.verify").timer().count());
+	}
+
+	@Test
+	void decode_ShouldPublishCacheHitMetrics() throws Exception {
+		String token = sign("user-1", Instant.now().plusSeconds(300));
+		decoder.decode(token);
+		decoder.decode(token);
+		decoder.decode(token);
+
+		double hits = meterRegistry.get("cache.gets").tag("cache", "omnipulse.jwt").tag("result", "hit")
+				.functionCounter().count();
+		assertEquals(2, hits);
+	}
+
+	@Test
+	void cacheDisabled_ShouldStillReleaseJwkSourceOnShutdown() throws Exception {
+		OAuth2ResourceServerProperties resourceServerProperties = new OAuth2ResourceServerProperties();
+		resourceServerProperties.getJwt().setJwkSetUri("http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/jwks");
+		JwtDecoderProperties properties = new JwtDecoderProperties();
+		properties.getCache().setEnabled(false);
+
+		JwtDecoder uncached = new JwtDecoderConfig().jwtDecoder(resourceServerProperties, properties,
+				meterRegistryProvider());
+
+		assertEquals("user-1", uncached.decode(sign("user-1", Instant.now().plusSeconds(300))).getSubject());
+		DisposableBean disposable = assertInstanceOf(DisposableBean.class, uncached);
+		assertDoesNotThrow(disposable::destroy);
+	}
+
+	private ObjectProvider<MeterRegistry> meterRegistryProvider() {
+		return new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+				.getBeanProvider(MeterRegistry.class);
+	}
+
+	private String sign(String subject, Instant expiresAt) throws JOSEException {
+		JWTClaimsSet claims = new JWTClaimsSet.Builder()
+				.subject(subject)
+				.claim("tenant_id", "tenant-1")
+				.issueTime(Date.from(expiresAt.minusSeconds(900)))
+				.expirationTime(Date.from(expiresAt))
+				.build();
+		SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+		jwt.sign(new RSASSASigner(signingKey));
+		return jwt.serialize();
+	}
+}
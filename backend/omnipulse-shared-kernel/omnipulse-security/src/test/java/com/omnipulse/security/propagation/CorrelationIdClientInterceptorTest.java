@@ -0,0 +1,59 @@
+package com.omnipulse.security.propagation;
+
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CorrelationIdClientInterceptorTest {
+
+	private final CorrelationIdClientInterceptor interceptor = new CorrelationIdClientInterceptor();
+	private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void intercept_WithCorrelationIdInContext_ShouldForwardHeader() throws IOException {
+		UserContext.set(RequestContext.of(null, null, "corr-1"));
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://downstream/x"));
+
+		interceptor.intercept(request, new byte[0], execution);
+
+		assertEquals("corr-1", request.getHeaders().getFirst("X-Correlation-ID"));
+		verify(execution).execute(request, new byte[0]);
+	}
+
+	@Test
+	void intercept_WithExplicitHeader_ShouldKeepCallerValue() throws IOException {
+		UserContext.set(RequestContext.of(null, null, "corr-1"));
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://downstream/x"));
+		request.getHeaders().set("X-Correlation-ID", "explicit");
+
+		interceptor.intercept(request, new byte[0], execution);
+
+		assertEquals("explicit", request.getHeaders().getFirst("X-Correlation-ID"));
+	}
+
+	@Test
+	void intercept_WithoutContext_ShouldNotAddHeader() throws IOException {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://downstream/x"));
+
+		interceptor.intercept(request, new byte[0], execution);
+
+		assertFalse(request.getHeaders().containsKey("X-Correlation-ID"));
+	}
+}
@@ -0,0 +1,108 @@
+package com.omnipulse.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimiterStoreTest {
+
+	private final AtomicLong now = new AtomicLong(1_000_000_000L);
+	private final LocalRateLimiterStore store = new LocalRateLimiterStore(1000, Duration.ofMinutes(5),
+			new SimpleMeterRegistry(), now::get);
+
+	@Test
+	void tryAcquire_WithinCapacity_ShouldAllowBurstAndCountDown() {
+		Quota quota = new Quota(3, Duration.ofSeconds(3));
+
+		assertEquals(2, store.tryAcquire("k", quota).remaining());
+		assertEquals(1, store.tryAcquire("k", quota).remaining());
+		assertEquals(0, store.tryAcquire("k", quota).remaining());
+	}
+
+	@Test
+	void tryAcquire_WhenExhausted_ShouldRejectWithTimeUntilNextPermit() {
+		Quota quota = new Quota(2, Duration.ofSeconds(2));
+		store.tryAcquire("k", quota);
+		store.tryAcquire("k", quota);
+
+		RateLimitDecision decision = store.tryAcquire("k", quota);
+
+		assertFalse(decision.allowed());
+		assertEquals(Duration.ofSeconds(1), decision.retryAfter());
+	}
+
+	@Test
+	void tryAcquire_AfterRefillInterval_ShouldAllowAgain() {
+		Quota quota = new Quota(1, Duration.ofMillis(500));
+		assertTrue(store.tryAcquire("k", quota).allowed());
+		assertFalse(store.tryAcquire("k", quota).allowed());
+
+		now.addAndGet(Duration.ofMillis(500).toNanos());
+
+		assertTrue(store.tryAcquire("k", quota).allowed());
+	}
+
+	@Test
+	void release_ShouldReturnThePermitButNeverExceedCapacity() {
+		Quota quota = new Quota(2, Duration.ofSeconds(2));
+		store.tryAcquire("k", quota);
+		store.tryAcquire("k", quota);
+
+		store.release("k", quota);
+		assertTrue(store.tryAcquire("k", quota).allowed());
+
+		store.release("k", quota);
+		store.release("k", quota);
+		store.release("k", quota);
+		assertEquals(1, store.tryAcquire("k", quota).remaining());
+	}
+
+	@Test
+	void tryAcquire_DifferentKeys_ShouldHaveIndependentBuckets() {
+		Quota quota = new Quota(1, Duration.ofSeconds(1));
+
+		assertTrue(store.tryAcquire("t:acme", quota).allowed());
+		assertTrue(store.tryAcquire("t:globex", quota).allowed());
+		assertFalse(store.tryAcquire("t:acme", quota).allowed());
+	}
+
+	@Test
+	void tryAcquire_UnderContention_ShouldNeverGrantMoreThanCapacity() throws Exception {
+		Quota quota = new Quota(10_000, Duration.ofHours(1));
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					int granted = 0;
+					for (int i = 0; i < 5_000; i++) {
+						if (store.tryAcquire("shared", quota).allowed()) {
+							granted++;
+						}
+					}
+					return granted;
+				}));
+			}
+			start.countDown();
+
+			int total = 0;
+			for (Future<Integer> result : results) {
+				total += result.get();
+			}
+			assertEquals(10_000, total);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.omnipulse.webcore.codec;
+
+import com.omnipulse.webcore.config.WebCodecProperties;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Translates {@code omnipulse.web.codec.compression.enabled} into Spring Boot's {@code server.compression}
+ * settings; the embedded server then gzips responses for clients that send {@code Accept-Encoding: gzip}.
+ * Added last, so explicit {@code server.compression.*} values in the service still win.
+ */
+public class CompressionEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+	static final String PROPERTY_SOURCE_NAME = "omnipulseWebCompression";
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		WebCodecProperties.Compression compression = Binder.get(environment)
+				.bind("omnipulse.web.codec.compression", WebCodecProperties.Compression.class)
+				.orElseGet(WebCodecProperties.Compression::new);
+
+		if (compression.isEnabled()) {
+			environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(
+					"server.compression.enabled", "true",
+					"server.compression.mime-types", String.join(",", compression.getMimeTypes()),
+					"server.compression.min-response-size", compression.getMinResponseSize().toBytes() + "B")));
+		}
+	}
+}
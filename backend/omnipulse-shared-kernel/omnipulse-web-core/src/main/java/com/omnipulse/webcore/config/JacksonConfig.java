@@ -4,23 +4,50 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.omnipulse.webcore.jackson.SerializerWarmUp;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 @Configuration
+@EnableConfigurationProperties(JacksonTuningProperties.class)
 public class JacksonConfig {
 
 	@Bean
 	@Primary
-	public ObjectMapper objectMapper() {
-		return JsonMapper.builder()
-				.addModule(new JavaTimeModule())
+	public ObjectMapper objectMapper(JacksonTuningProperties properties) {
+		return configure(JsonMapper.builder(), properties);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "omnipulse.web.jackson", name = "warm-up", matchIfMissing = true)
+	public SerializerWarmUp serializerWarmUp(ObjectMapper objectMapper, ListableBeanFactory beanFactory) {
+		return new SerializerWarmUp(objectMapper, beanFactory);
+	}
+
+	/**
+	 * Applies the shared settings to a mapper of any format, so JSON, Smile and CBOR payloads carry the same fields.
+	 */
+	public static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configure(B builder) {
+		return configure(builder, new JacksonTuningProperties());
+	}
+
+	public static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configure(B builder,
+	                                                                                  JacksonTuningProperties properties) {
+		builder.addModule(new JavaTimeModule())
 				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
 				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-				.serializationInclusion(JsonInclude.Include.NON_NULL)
-				.build();
+				.serializationInclusion(JsonInclude.Include.NON_NULL);
+		if (properties.isBlackbird()) {
+			builder.addModule(new BlackbirdModule());
+		}
+		return builder.build();
 	}
 }
@@ -0,0 +1,14 @@
+package com.omnipulse.webcore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.web.jackson")
+public class JacksonTuningProperties {
+
+	/** Replaces reflective property access with generated lambdas (Jackson Blackbird). */
+	private boolean blackbird = false;
+	/** Builds (de)serializers for the response envelope and controller signatures before the server starts. */
+	private boolean warmUp = true;
+}
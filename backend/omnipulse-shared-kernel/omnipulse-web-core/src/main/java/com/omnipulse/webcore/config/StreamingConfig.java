@@ -0,0 +1,49 @@
+package com.omnipulse.webcore.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omnipulse.webcore.streaming.StreamingJsonWriter;
+import com.omnipulse.webcore.streaming.StreamingScope;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@ConditionalOnClass(name = "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody")
+@EnableConfigurationProperties(StreamingProperties.class)
+public class StreamingConfig {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public StreamingJsonWriter streamingJsonWriter(ObjectMapper objectMapper, ObjectProvider<StreamingScope> scope,
+												   StreamingProperties properties) {
+		return new StreamingJsonWriter(objectMapper, scope.getIfAvailable(() -> StreamingScope.NONE),
+				Math.max(1, properties.getFlushEvery()));
+	}
+
+	@Configuration
+	@ConditionalOnClass(name = "org.springframework.transaction.support.TransactionTemplate")
+	@ConditionalOnProperty(prefix = "omnipulse.web.streaming", name = "read-only-transaction", matchIfMissing = true)
+	static class TransactionalStreamingConfig {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public StreamingScope readOnlyTransactionStreamingScope(ObjectProvider<PlatformTransactionManager> transactionManager) {
+			return work -> {
+				PlatformTransactionManager manager = transactionManager.getIfAvailable();
+				if (manager == null) {
+					work.run();
+					return;
+				}
+				TransactionTemplate template = new TransactionTemplate(manager);
+				template.setReadOnly(true);
+				template.executeWithoutResult(status -> work.run());
+			};
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.omnipulse.webcore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.web.streaming")
+public class StreamingProperties {
+
+	/** Items written between explicit flushes to the client. */
+	private int flushEvery = 100;
+	/** Wraps streamed writes in a read-only transaction when a transaction manager is present. */
+	private boolean readOnlyTransaction = true;
+}
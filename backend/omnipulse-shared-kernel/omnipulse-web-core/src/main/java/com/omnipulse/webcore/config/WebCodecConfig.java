@@ -0,0 +1,51 @@
+package com.omnipulse.webcore.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnClass(name = "org.springframework.web.servlet.config.annotation.WebMvcConfigurer")
+@EnableConfigurationProperties(WebCodecProperties.class)
+public class WebCodecConfig {
+
+	/**
+	 * Spring MVC registers Smile and CBOR converters by itself once the dataformats are on the classpath, but with
+	 * its own mapper defaults (dates as arrays, nulls written). They are swapped in place for converters using the
+	 * shared settings, or appended after JSON when missing, so {@code Accept: *}{@code /*} still gets JSON.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "omnipulse.web.codec", name = "binary-formats", matchIfMissing = true)
+	public WebMvcConfigurer binaryFormatsConfigurer(JacksonTuningProperties properties) {
+		return new WebMvcConfigurer() {
+			@Override
+			public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+				replaceOrAdd(converters, MappingJackson2SmileHttpMessageConverter.class,
+						new MappingJackson2SmileHttpMessageConverter(JacksonConfig.configure(SmileMapper.builder(), properties)));
+				replaceOrAdd(converters, MappingJackson2CborHttpMessageConverter.class,
+						new MappingJackson2CborHttpMessageConverter(JacksonConfig.configure(CBORMapper.builder(), properties)));
+			}
+		};
+	}
+
+	private static void replaceOrAdd(List<HttpMessageConverter<?>> converters,
+	                                 Class<?> type, HttpMessageConverter<?> converter) {
+		for (int i = 0; i < converters.size(); i++) {
+			if (type.isInstance(converters.get(i))) {
+				converters.set(i, converter);
+				return;
+			}
+		}
+		converters.add(converter);
+	}
+}
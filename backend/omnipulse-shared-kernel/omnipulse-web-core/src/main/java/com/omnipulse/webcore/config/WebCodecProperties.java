@@ -0,0 +1,28 @@
+package com.omnipulse.webcore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.web.codec")
+public class WebCodecProperties {
+
+	/** Serves Smile and CBOR to clients that ask for them in {@code Accept}; JSON stays the default. */
+	private boolean binaryFormats = true;
+	private final Compression compression = new Compression();
+
+	@Data
+	public static class Compression {
+		/** Turns on {@code server.compression} with the settings below unless the service configures it itself. */
+		private boolean enabled = false;
+		/** Smaller responses are sent as is; compressing them costs more CPU than the bytes it saves. */
+		private DataSize minResponseSize = DataSize.ofKilobytes(2);
+		private List<String> mimeTypes = new ArrayList<>(List.of(
+				"application/json", "application/x-ndjson", "application/x-jackson-smile", "application/cbor",
+				"text/html", "text/plain", "text/css", "application/javascript"));
+	}
+}
@@ -1,9 +1,19 @@
 package com.omnipulse.webcore.config;
 
+import com.omnipulse.webcore.exception.GlobalExceptionHandler;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
 
-@AutoConfiguration
-@ComponentScan(basePackages = "com.omnipulse.webcore")
+// Ahead of Boot's Jackson auto-configuration so its ObjectMapper backs off in favour of JacksonConfig's
+@AutoConfiguration(before = JacksonAutoConfiguration.class)
+@Import({
+		JacksonConfig.class,
+		WebCodecConfig.class,
+		WebExecutionConfig.class,
+		StreamingConfig.class,
+		SwaggerConfig.class,
+		GlobalExceptionHandler.class
+})
 public class WebCoreAutoConfiguration {
 }
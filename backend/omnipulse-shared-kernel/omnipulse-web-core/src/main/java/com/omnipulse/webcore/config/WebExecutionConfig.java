@@ -0,0 +1,33 @@
+package com.omnipulse.webcore.config;
+
+import com.omnipulse.webcore.execution.UserContextTaskDecorator;
+import com.omnipulse.webcore.execution.VirtualThreadPinningMonitor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+@EnableConfigurationProperties(WebExecutionProperties.class)
+public class WebExecutionConfig {
+
+	@Bean
+	@ConditionalOnMissingBean(TaskDecorator.class)
+	public TaskDecorator userContextTaskDecorator() {
+		return new UserContextTaskDecorator();
+	}
+
+	@Configuration
+	@ConditionalOnProperty(prefix = "omnipulse.web", name = "execution", havingValue = "virtual")
+	static class VirtualExecutionConfig {
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(prefix = "omnipulse.web.pinning-detection", name = "enabled", matchIfMissing = true)
+		public VirtualThreadPinningMonitor virtualThreadPinningMonitor(WebExecutionProperties properties) {
+			return new VirtualThreadPinningMonitor(properties.getPinningDetection());
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.omnipulse.webcore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "omnipulse.web")
+public class WebExecutionProperties {
+
+	private Execution execution = Execution.PLATFORM;
+	private final PinningDetection pinningDetection = new PinningDetection();
+
+	public enum Execution {
+		PLATFORM,
+		VIRTUAL
+	}
+
+	@Data
+	public static class PinningDetection {
+		private boolean enabled = true;
+		private Duration threshold = Duration.ofMillis(20);
+		private int stackDepth = 12;
+	}
+}
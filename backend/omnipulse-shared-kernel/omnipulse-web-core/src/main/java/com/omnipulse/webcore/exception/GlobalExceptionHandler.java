@@ -1,15 +1,21 @@
 package com.omnipulse.webcore.exception;
 
 import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.ErrorResponseTemplates;
 import com.omnipulse.common.dto.response.ValidationError;
 import com.omnipulse.common.enums.ApiResponseCode;
-import com.omnipulse.common.exception.DuplicateResourceException;
+import com.omnipulse.common.exception.ExceptionFingerprints;
 import com.omnipulse.common.exception.OmniPulseException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -24,17 +30,19 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+	private final ExceptionFingerprints exceptionFingerprints;
+
+	public GlobalExceptionHandler(ObjectProvider<ExceptionFingerprints> exceptionFingerprints) {
+		this.exceptionFingerprints = exceptionFingerprints.getIfAvailable(ExceptionFingerprints::new);
+	}
 
 	@ExceptionHandler(OmniPulseException.class)
-	public ResponseEntity<ApiResponse<Void>> handleOmniPulseException(OmniPulseException ex, HttpServletRequest request) {
+	public ResponseEntity<?> handleOmniPulseException(OmniPulseException ex, HttpServletRequest request) {
 		ApiResponseCode code = ex.getResponseCode();
-		HttpStatus status = resolveStatus(code);
 
 		log.warn("Business Error: [{}] {} - Path: {}", code.getCode(), ex.getMessage(), request.getRequestURI());
 
-		return ResponseEntity
-				.status(status)
-				.body(ApiResponse.error(ex.getMessage(), code.getCode()));
+		return error(request, resolveStatus(code), code, ex.getMessage());
 	}
 
 	@ExceptionHandler(MethodArgumentNotValidException.class)
@@ -55,47 +63,72 @@ public class GlobalExceptionHandler {
 	}
 
 	@ExceptionHandler(HttpMessageNotReadableException.class)
-	public ResponseEntity<ApiResponse<Void>> handleMalformedJson(HttpMessageNotReadableException ex) {
-		return ResponseEntity
-				.status(HttpStatus.BAD_REQUEST)
-				.body(ApiResponse.error("Malformed JSON request", ApiResponseCode.BAD_REQUEST.getCode()));
+	public ResponseEntity<?> handleMalformedJson(HttpMessageNotReadableException ex, HttpServletRequest request) {
+		return error(request, HttpStatus.BAD_REQUEST, ApiResponseCode.BAD_REQUEST, "Malformed JSON request");
 	}
 
 	@ExceptionHandler(MissingServletRequestParameterException.class)
-	public ResponseEntity<ApiResponse<Void>> handleMissingParams(MissingServletRequestParameterException ex) {
-		return ResponseEntity
-				.status(HttpStatus.BAD_REQUEST)
-				.body(ApiResponse.error("Missing parameter: " + ex.getParameterName(), ApiResponseCode.BAD_REQUEST.getCode()));
+	public ResponseEntity<?> handleMissingParams(MissingServletRequestParameterException ex, HttpServletRequest request) {
+		return error(request, HttpStatus.BAD_REQUEST, ApiResponseCode.BAD_REQUEST, "Missing parameter: " + ex.getParameterName());
 	}
 
 	@ExceptionHandler(NoResourceFoundException.class)
-	public ResponseEntity<ApiResponse<Void>> handle404(NoResourceFoundException ex) {
-		return ResponseEntity
-				.status(HttpStatus.NOT_FOUND)
-				.body(ApiResponse.error("Endpoint not found", ApiResponseCode.RESOURCE_NOT_FOUND.getCode()));
+	public ResponseEntity<?> handle404(NoResourceFoundException ex, HttpServletRequest request) {
+		return error(request, HttpStatus.NOT_FOUND, ApiResponseCode.RESOURCE_NOT_FOUND, "Endpoint not found");
 	}
 
 	@ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-	public ResponseEntity<ApiResponse<Void>> handleMethodNotAllowed(HttpRequestMethodNotSupportedException ex) {
-		return ResponseEntity
-				.status(HttpStatus.METHOD_NOT_ALLOWED)
-				.body(ApiResponse.error("Method " + ex.getMethod() + " not allowed", ApiResponseCode.BAD_REQUEST.getCode()));
+	public ResponseEntity<?> handleMethodNotAllowed(HttpRequestMethodNotSupportedException ex, HttpServletRequest request) {
+		return error(request, HttpStatus.METHOD_NOT_ALLOWED, ApiResponseCode.BAD_REQUEST, "Method " + ex.getMethod() + " not allowed");
 	}
 
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<ApiResponse<Void>> handleGeneralException(Exception ex) {
-		log.error("Unexpected System Error: ", ex);
-		return ResponseEntity
-				.status(HttpStatus.INTERNAL_SERVER_ERROR)
-				.body(ApiResponse.error("An unexpected internal error occurred", ApiResponseCode.INTERNAL_ERROR.getCode()));
+	public ResponseEntity<?> handleGeneralException(Exception ex, HttpServletRequest request) {
+		ExceptionFingerprints.Occurrence occurrence = exceptionFingerprints.record(ex);
+		// null: already logged on this thread, typically by the observability LoggingAspect; repeats within the
+		// fingerprint window are only counted and reported with the next trace
+		if (occurrence != null && occurrence.logTrace()) {
+			log.error("Unexpected System Error [fingerprint {}, {} since last trace]: ",
+					occurrence.fingerprint(), occurrence.suppressed(), ex);
+		}
+		return error(request, HttpStatus.INTERNAL_SERVER_ERROR, ApiResponseCode.INTERNAL_ERROR, "An unexpected internal error occurred");
 	}
 
 	@ExceptionHandler(AccessDeniedException.class)
-	public ResponseEntity<ApiResponse<Void>> handleAccessDenied(AccessDeniedException ex) {
+	public ResponseEntity<?> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
 		log.warn("Access Denied: {}", ex.getMessage());
+		return error(request, HttpStatus.FORBIDDEN, ApiResponseCode.FORBIDDEN, "Access Denied: You do not have permission to perform this action.");
+	}
+
+	/**
+	 * JSON callers get the pre-encoded template; anyone preferring another representation (Smile, CBOR) gets the
+	 * equivalent {@link ApiResponse} so the message converters negotiate the body like any controller result.
+	 */
+	private ResponseEntity<?> error(HttpServletRequest request, HttpStatus status, ApiResponseCode code, String message) {
+		if (!prefersJson(request.getHeader(HttpHeaders.ACCEPT))) {
+			return ResponseEntity.status(status).body(ApiResponse.error(message, code.getCode()));
+		}
 		return ResponseEntity
-				.status(HttpStatus.FORBIDDEN)
-				.body(ApiResponse.error("Access Denied: You do not have permission to perform this action.", ApiResponseCode.FORBIDDEN.getCode()));
+				.status(status)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(ErrorResponseTemplates.render(code, message));
+	}
+
+	static boolean prefersJson(String accept) {
+		if (!StringUtils.hasText(accept)) {
+			return true;
+		}
+		MediaType preferred = null;
+		try {
+			for (MediaType type : MediaType.parseMediaTypes(accept)) {
+				if (preferred == null || type.getQualityValue() > preferred.getQualityValue()) {
+					preferred = type;
+				}
+			}
+		} catch (InvalidMediaTypeException e) {
+			return true;
+		}
+		return preferred == null || preferred.isCompatibleWith(MediaType.APPLICATION_JSON);
 	}
 
 	private HttpStatus resolveStatus(ApiResponseCode code) {
@@ -105,6 +138,7 @@ public class GlobalExceptionHandler {
 			case FORBIDDEN -> HttpStatus.FORBIDDEN;
 			case VALIDATION_FAILED, BAD_REQUEST -> HttpStatus.BAD_REQUEST;
 			case CONFLICT -> HttpStatus.CONFLICT;
+			case TOO_MANY_REQUESTS -> HttpStatus.TOO_MANY_REQUESTS;
 			case SERVICE_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE;
 			default -> HttpStatus.INTERNAL_SERVER_ERROR;
 		};
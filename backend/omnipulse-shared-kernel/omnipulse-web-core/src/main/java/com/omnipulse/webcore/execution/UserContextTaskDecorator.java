@@ -0,0 +1,44 @@
+package com.omnipulse.webcore.execution;
+
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+
+import java.util.Map;
+
+/**
+ * Carries the submitting thread's {@link RequestContext} and MDC into {@code @Async}, MVC async and scheduled
+ * tasks, and restores whatever the worker had before so reused or caller-runs threads never leak context.
+ */
+public class UserContextTaskDecorator implements TaskDecorator {
+
+	@NonNull
+	@Override
+	public Runnable decorate(@NonNull Runnable runnable) {
+		RequestContext captured = UserContext.current();
+		Map<String, String> capturedMdc = MDC.getCopyOfContextMap();
+
+		return () -> {
+			RequestContext previous = UserContext.current();
+			Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+			restoreMdc(capturedMdc);
+			UserContext.set(captured);
+			try {
+				runnable.run();
+			} finally {
+				UserContext.set(previous);
+				restoreMdc(previousMdc);
+			}
+		};
+	}
+
+	private static void restoreMdc(Map<String, String> contextMap) {
+		if (contextMap == null) {
+			MDC.clear();
+		} else {
+			MDC.setContextMap(contextMap);
+		}
+	}
+}
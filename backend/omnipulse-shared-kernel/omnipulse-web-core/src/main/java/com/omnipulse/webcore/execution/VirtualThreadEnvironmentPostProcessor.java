@@ -0,0 +1,33 @@
+package com.omnipulse.webcore.execution;
+
+import com.omnipulse.webcore.config.WebExecutionProperties;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Translates {@code omnipulse.web.execution=virtual} into Spring Boot's own virtual thread switch so Tomcat,
+ * the application task executor and the task scheduler all move together. Added last, so an explicit
+ * {@code spring.threads.virtual.enabled} in the service still wins.
+ */
+public class VirtualThreadEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+	static final String PROPERTY_SOURCE_NAME = "omnipulseWebExecution";
+	static final String VIRTUAL_THREADS_PROPERTY = "spring.threads.virtual.enabled";
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		WebExecutionProperties.Execution execution = Binder.get(environment)
+				.bind("omnipulse.web.execution", WebExecutionProperties.Execution.class)
+				.orElse(WebExecutionProperties.Execution.PLATFORM);
+
+		if (execution == WebExecutionProperties.Execution.VIRTUAL) {
+			environment.getPropertySources()
+					.addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(VIRTUAL_THREADS_PROPERTY, "true")));
+		}
+	}
+}
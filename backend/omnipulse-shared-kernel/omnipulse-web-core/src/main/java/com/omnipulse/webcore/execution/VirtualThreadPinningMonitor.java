@@ -0,0 +1,100 @@
+package com.omnipulse.webcore.execution;
+
+import com.omnipulse.webcore.config.WebExecutionProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events and reports each pinning site (usually a
+ * {@code synchronized} block or native frame) once with its stack, then only counts repeats.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final WebExecutionProperties.PinningDetection settings;
+	private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+	private volatile RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(WebExecutionProperties.PinningDetection settings) {
+		this.settings = settings;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (stream != null) {
+			return;
+		}
+		RecordingStream recording = new RecordingStream();
+		recording.enable(PINNED_EVENT).withThreshold(settings.getThreshold()).withStackTrace();
+		recording.onEvent(PINNED_EVENT, this::onPinned);
+		recording.startAsync();
+		stream = recording;
+		log.info("Virtual thread pinning detection active (threshold {} ms)", settings.getThreshold().toMillis());
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (stream != null) {
+			stream.close();
+			stream = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return stream != null;
+	}
+
+	public Map<String, Long> getPinnedSites() {
+		return pinnedSites.entrySet().stream()
+				.collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().sum()));
+	}
+
+	void onPinned(RecordedEvent event) {
+		List<String> frames = describeFrames(event.getStackTrace());
+		String site = frames.stream().filter(frame -> !isPlatformFrame(frame)).findFirst()
+				.orElse(frames.isEmpty() ? "unknown" : frames.get(0));
+
+		LongAdder counter = pinnedSites.computeIfAbsent(site, key -> new LongAdder());
+		counter.increment();
+
+		if (counter.sum() == 1) {
+			log.warn("Virtual thread pinned its carrier for {} ms at {}\n\tat {}",
+					event.getDuration().toMillis(), site, String.join("\n\tat ", frames));
+		} else if (log.isDebugEnabled()) {
+			log.debug("Virtual thread pinned for {} ms at {} ({} occurrences)",
+					event.getDuration().toMillis(), site, counter.sum());
+		}
+	}
+
+	private List<String> describeFrames(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return List.of();
+		}
+		return stackTrace.getFrames().stream()
+				.limit(settings.getStackDepth())
+				.map(VirtualThreadPinningMonitor::describe)
+				.toList();
+	}
+
+	private static String describe(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+				+ ":" + frame.getLineNumber();
+	}
+
+	private static boolean isPlatformFrame(String frame) {
+		return frame.startsWith("java.") || frame.startsWith("jdk.") || frame.startsWith("sun.");
+	}
+}
@@ -0,0 +1,167 @@
+package com.omnipulse.webcore.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.PagedResponse;
+import com.omnipulse.common.dto.response.ValidationError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds Jackson (de)serializers for the response envelope and every {@code @RestController} return and
+ * {@code @RequestBody} type once all singletons exist, before the web server takes traffic, so the first request
+ * per DTO type after a deploy does not pay for introspection.
+ * <p>
+ * Serializers for non-final property types are normally looked up on first use; they are walked and built here
+ * too, down to JDK types.
+ */
+@Slf4j
+public class SerializerWarmUp implements SmartInitializingSingleton {
+
+	private static final List<Class<?>> ENVELOPE_TYPES = List.of(ApiResponse.class, PagedResponse.class,
+			ValidationError.class);
+	private static final List<Class<?>> WRAPPER_TYPES = List.of(HttpEntity.class, Optional.class,
+			CompletionStage.class, Future.class, Callable.class, DeferredResult.class, WebAsyncTask.class);
+
+	private final ObjectMapper objectMapper;
+	private final ListableBeanFactory beanFactory;
+
+	public SerializerWarmUp(ObjectMapper objectMapper, ListableBeanFactory beanFactory) {
+		this.objectMapper = objectMapper;
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		long start = System.nanoTime();
+		Set<JavaType> responseTypes = new LinkedHashSet<>();
+		Set<JavaType> requestTypes = new LinkedHashSet<>();
+		collectTypes(responseTypes, requestTypes);
+
+		Set<JavaType> visited = new HashSet<>();
+		SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+		for (JavaType type : responseTypes) {
+			warmRootSerializer(type);
+			warmSerializers(provider, type, visited);
+		}
+		requestTypes.forEach(this::warmDeserializer);
+		log.info("Warmed Jackson serializers for {} types and deserializers for {} request bodies in {} ms",
+				visited.size(), requestTypes.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	void collectTypes(Set<JavaType> responseTypes, Set<JavaType> requestTypes) {
+		TypeFactory typeFactory = objectMapper.getTypeFactory();
+		ENVELOPE_TYPES.forEach(type -> responseTypes.add(typeFactory.constructType(type)));
+		for (String beanName : beanFactory.getBeanNamesForAnnotation(RestController.class)) {
+			Class<?> beanType = beanFactory.getType(beanName, false);
+			if (beanType == null) {
+				continue;
+			}
+			ReflectionUtils.doWithMethods(ClassUtils.getUserClass(beanType),
+					method -> collectTypes(method, typeFactory, responseTypes, requestTypes),
+					method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class));
+		}
+	}
+
+	private void collectTypes(Method method, TypeFactory typeFactory, Set<JavaType> responseTypes,
+	                          Set<JavaType> requestTypes) {
+		addIfUseful(responseTypes, unwrap(typeFactory.constructType(method.getGenericReturnType())));
+		for (Parameter parameter : method.getParameters()) {
+			if (parameter.isAnnotationPresent(RequestBody.class)) {
+				addIfUseful(requestTypes, unwrap(typeFactory.constructType(parameter.getParameterizedType())));
+			}
+		}
+	}
+
+	private static JavaType unwrap(JavaType type) {
+		for (Class<?> wrapper : WRAPPER_TYPES) {
+			if (wrapper.isAssignableFrom(type.getRawClass())) {
+				JavaType[] parameters = type.findTypeParameters(wrapper);
+				return parameters.length == 1 ? unwrap(parameters[0]) : null;
+			}
+		}
+		return type;
+	}
+
+	private static void addIfUseful(Set<JavaType> types, JavaType type) {
+		if (type != null && !type.isPrimitive() && !type.hasRawClass(Void.class) && !type.hasRawClass(Object.class)) {
+			types.add(type);
+		}
+	}
+
+	private void warmRootSerializer(JavaType type) {
+		try {
+			// Message converters write with the declared return type, which is cached under its own key
+			objectMapper.writerFor(type);
+		} catch (Exception e) {
+			log.debug("Skipping root serializer warm-up for {}: {}", type, e.getMessage());
+		}
+	}
+
+	private void warmSerializers(SerializerProvider provider, JavaType type, Set<JavaType> visited) {
+		if (type.hasRawClass(Object.class) || !visited.add(type)) {
+			return;
+		}
+		try {
+			provider.findValueSerializer(type);
+			if (!type.hasGenericTypes()) {
+				// Runtime lookups for non-final properties are keyed by class, not by resolved type
+				provider.findValueSerializer(type.getRawClass());
+			}
+		} catch (Exception e) {
+			log.debug("Skipping serializer warm-up for {}: {}", type, e.getMessage());
+			return;
+		}
+		if (type.isContainerType()) {
+			if (type.getKeyType() != null) {
+				warmSerializers(provider, type.getKeyType(), visited);
+			}
+			warmSerializers(provider, type.getContentType(), visited);
+		} else if (isApplicationType(type)) {
+			for (BeanPropertyDefinition property : objectMapper.getSerializationConfig().introspect(type).findProperties()) {
+				warmSerializers(provider, property.getPrimaryType(), visited);
+			}
+		}
+	}
+
+	private void warmDeserializer(JavaType type) {
+		try {
+			// Fetches the root deserializer eagerly; bean deserializers resolve their properties right away
+			objectMapper.readerFor(type);
+		} catch (Exception e) {
+			log.debug("Skipping deserializer warm-up for {}: {}", type, e.getMessage());
+		}
+	}
+
+	private static boolean isApplicationType(JavaType type) {
+		Class<?> raw = type.getRawClass();
+		return !raw.isPrimitive() && !raw.isEnum() && !raw.isArray()
+				&& !raw.getName().startsWith("java.") && !raw.getName().startsWith("javax.");
+	}
+}
@@ -0,0 +1,18 @@
+package com.omnipulse.webcore.streaming;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum StreamFormat {
+
+	/** {@code ApiResponse} envelope whose {@code data} array is written item by item. */
+	JSON_ARRAY(MediaType.APPLICATION_JSON),
+
+	/** One JSON document per line, no envelope; clients can process each line as it arrives. */
+	NDJSON(MediaType.APPLICATION_NDJSON);
+
+	private final MediaType mediaType;
+}
@@ -0,0 +1,108 @@
+package com.omnipulse.webcore.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.omnipulse.common.enums.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes large collections incrementally instead of materialising them into {@code ApiResponse<List<T>>}.
+ * <p>
+ * The source is opened on the MVC async thread inside the {@link StreamingScope} and pulled one item at a time;
+ * a slow client blocks the servlet write, which in turn stops the source from being advanced. Output is flushed
+ * to the client every {@code flushEvery} items. For JPA sources prefer DTO projections, since entities read from
+ * a {@code Stream<T>} stay in the persistence context until the transaction ends.
+ */
+@Slf4j
+public class StreamingJsonWriter {
+
+	private final ObjectWriter objectWriter;
+	private final StreamingScope scope;
+	private final int flushEvery;
+
+	public StreamingJsonWriter(ObjectMapper objectMapper, StreamingScope scope, int flushEvery) {
+		// Jackson flushes after every value by default, which would turn each item into its own chunk
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.scope = scope;
+		this.flushEvery = flushEvery;
+	}
+
+	public <T> ResponseEntity<StreamingResponseBody> jsonArray(Supplier<? extends Stream<? extends T>> source) {
+		return stream(StreamFormat.JSON_ARRAY, source, "Data retrieved successfully");
+	}
+
+	public <T> ResponseEntity<StreamingResponseBody> ndjson(Supplier<? extends Stream<? extends T>> source) {
+		return stream(StreamFormat.NDJSON, source, null);
+	}
+
+	public <T> ResponseEntity<StreamingResponseBody> stream(StreamFormat format,
+															Supplier<? extends Stream<? extends T>> source,
+															String message) {
+		return ResponseEntity.ok()
+				.contentType(format.getMediaType())
+				.body(body(format, source, message));
+	}
+
+	public <T> StreamingResponseBody body(StreamFormat format, Supplier<? extends Stream<? extends T>> source,
+										  String message) {
+		return outputStream -> {
+			try {
+				scope.run(() -> write(format, source, message, outputStream));
+			} catch (UncheckedIOException e) {
+				log.debug("Streaming response aborted: {}", e.getCause().getMessage());
+				throw e.getCause();
+			}
+		};
+	}
+
+	private <T> void write(StreamFormat format, Supplier<? extends Stream<? extends T>> source, String message,
+						   OutputStream outputStream) {
+		try (Stream<? extends T> stream = source.get();
+			 JsonGenerator generator = objectWriter.createGenerator(outputStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			// the default separator is a space, which would lead every NDJSON line after the first
+			generator.setRootValueSeparator(null);
+
+			if (format == StreamFormat.JSON_ARRAY) {
+				generator.writeStartObject();
+				generator.writePOJOField("status", Status.SUCCESS);
+				generator.writePOJOField("timestamp", LocalDateTime.now());
+				if (message != null) {
+					generator.writeStringField("message", message);
+				}
+				generator.writeArrayFieldStart("data");
+			}
+
+			long written = 0;
+			Iterator<? extends T> items = stream.iterator();
+			while (items.hasNext()) {
+				objectWriter.writeValue(generator, items.next());
+				if (format == StreamFormat.NDJSON) {
+					generator.writeRaw('\n');
+				}
+				if (++written % flushEvery == 0) {
+					generator.flush();
+				}
+			}
+
+			if (format == StreamFormat.JSON_ARRAY) {
+				generator.writeEndArray();
+				generator.writeEndObject();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
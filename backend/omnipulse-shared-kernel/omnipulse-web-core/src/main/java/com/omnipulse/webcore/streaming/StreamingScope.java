@@ -0,0 +1,13 @@
+package com.omnipulse.webcore.streaming;
+
+/**
+ * Surrounds the write of a streamed response on the async thread, e.g. with the read-only transaction a JPA
+ * {@code Stream<T>} query needs to keep its cursor open after the controller has returned.
+ */
+@FunctionalInterface
+public interface StreamingScope {
+
+	StreamingScope NONE = Runnable::run;
+
+	void run(Runnable work);
+}
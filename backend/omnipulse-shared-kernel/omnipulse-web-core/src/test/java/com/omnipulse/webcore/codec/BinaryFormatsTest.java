@@ -0,0 +1,120 @@
+package com.omnipulse.webcore.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.PagedResponse;
+import com.omnipulse.common.exception.ResourceNotFoundException;
+import com.omnipulse.webcore.config.JacksonConfig;
+import com.omnipulse.webcore.config.WebCodecConfig;
+import com.omnipulse.webcore.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringJUnitWebConfig(BinaryFormatsTest.TestConfig.class)
+class BinaryFormatsTest {
+
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+	private final ObjectMapper json = JacksonConfig.configure(JsonMapper.builder());
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp(@Autowired WebApplicationContext context) {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	void anyAccept_ShouldStillGetJson() throws Exception {
+		assertEquals(MediaType.APPLICATION_JSON_VALUE, fetch(MediaType.ALL).getContentType());
+	}
+
+	@Test
+	void smileAndCbor_ShouldCarryTheSameFieldsWithTheSharedMapperSettings() throws Exception {
+		byte[] smile = fetch(SMILE).getContentAsByteArray();
+		JsonNode smileTree = withoutTimestamp(new SmileMapper().readTree(smile));
+		JsonNode cborTree = withoutTimestamp(new CBORMapper().readTree(fetch(MediaType.APPLICATION_CBOR).getContentAsByteArray()));
+
+		assertEquals(smileTree, cborTree);
+		assertEquals("2025-01-01T12:00:00", smileTree.at("/data/content/0/createdAt").asText());
+		assertFalse(smileTree.at("/data/content/0").has("note"));
+		assertTrue(smile.length < json.writeValueAsBytes(smileTree).length);
+	}
+
+	@Test
+	void errorForJsonClient_ShouldUseTheTemplateAndBinaryClientsShouldGetTheirFormat() throws Exception {
+		MockHttpServletResponse jsonError = fetch("/missing", MediaType.APPLICATION_JSON);
+		assertEquals(404, jsonError.getStatus());
+		assertEquals(MediaType.APPLICATION_JSON_VALUE, jsonError.getContentType());
+		assertEquals("4004", json.readTree(jsonError.getContentAsByteArray()).path("errorCode").asText());
+
+		MockHttpServletResponse cborError = fetch("/missing", MediaType.APPLICATION_CBOR);
+		assertEquals(404, cborError.getStatus());
+		assertEquals(MediaType.APPLICATION_CBOR_VALUE, cborError.getContentType());
+		JsonNode cborTree = new CBORMapper().readTree(cborError.getContentAsByteArray());
+		assertEquals(json.readTree(jsonError.getContentAsByteArray()).path("errorCode"), cborTree.path("errorCode"));
+		assertEquals("Item not found with id: '42'", cborTree.path("message").asText());
+	}
+
+	private static JsonNode withoutTimestamp(JsonNode tree) {
+		((ObjectNode) tree).remove("timestamp");
+		return tree;
+	}
+
+	private MockHttpServletResponse fetch(MediaType accept) throws Exception {
+		return fetch("/items", accept);
+	}
+
+	private MockHttpServletResponse fetch(String path, MediaType accept) throws Exception {
+		return mockMvc.perform(get(path).accept(accept)).andReturn().getResponse();
+	}
+
+	@Configuration
+	@EnableWebMvc
+	@Import({JacksonConfig.class, WebCodecConfig.class, GlobalExceptionHandler.class, ItemController.class})
+	static class TestConfig {
+	}
+
+	@RestController
+	static class ItemController {
+
+		@GetMapping("/items")
+		ApiResponse<PagedResponse<Item>> items() {
+			LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+			List<Item> items = List.of(new Item("first", createdAt, null), new Item("second", createdAt, "x"));
+			return ApiResponse.successPaged(new PageImpl<>(items, PageRequest.of(0, 20), 2));
+		}
+
+		@GetMapping("/missing")
+		ApiResponse<Item> missing() {
+			throw new ResourceNotFoundException("Item", "id", 42);
+		}
+	}
+
+	record Item(String name, LocalDateTime createdAt, String note) {
+	}
+}
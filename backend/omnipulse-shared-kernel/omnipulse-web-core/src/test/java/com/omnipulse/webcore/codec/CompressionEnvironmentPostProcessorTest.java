@@ -0,0 +1,43 @@
+package com.omnipulse.webcore.codec;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionEnvironmentPostProcessorTest {
+
+	private final CompressionEnvironmentPostProcessor postProcessor = new CompressionEnvironmentPostProcessor();
+
+	@Test
+	void enabled_ShouldDefaultServerCompressionWithoutOverridingTheService() {
+		StandardEnvironment environment = environment(Map.of(
+				"omnipulse.web.codec.compression.enabled", "true",
+				"server.compression.min-response-size", "8KB"));
+
+		postProcessor.postProcessEnvironment(environment, null);
+
+		assertEquals("true", environment.getProperty("server.compression.enabled"));
+		assertTrue(environment.getProperty("server.compression.mime-types").contains("application/x-jackson-smile"));
+		assertEquals("8KB", environment.getProperty("server.compression.min-response-size"));
+	}
+
+	@Test
+	void disabled_ShouldLeaveServerCompressionAlone() {
+		StandardEnvironment environment = environment(Map.of());
+
+		postProcessor.postProcessEnvironment(environment, null);
+
+		assertNull(environment.getPropertySources().get(CompressionEnvironmentPostProcessor.PROPERTY_SOURCE_NAME));
+		assertNull(environment.getProperty("server.compression.enabled"));
+	}
+
+	private static StandardEnvironment environment(Map<String, Object> properties) {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+		return environment;
+	}
+}
@@ -0,0 +1,31 @@
+package com.omnipulse.webcore.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.omnipulse.common.dto.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonConfigTest {
+
+	@Test
+	void blackbird_ShouldBeOptInAndWriteTheSameBytes() throws Exception {
+		JacksonTuningProperties properties = new JacksonTuningProperties();
+		properties.setBlackbird(true);
+		ObjectMapper plain = JacksonConfig.configure(JsonMapper.builder());
+		ObjectMapper blackbird = JacksonConfig.configure(JsonMapper.builder(), properties);
+		ApiResponse<List<Item>> response = ApiResponse.success(
+				List.of(new Item("a", LocalDateTime.of(2025, 1, 1, 12, 0), null)), "ok");
+
+		assertFalse(plain.getRegisteredModuleIds().stream().anyMatch(id -> id.toString().contains("Blackbird")));
+		assertTrue(blackbird.getRegisteredModuleIds().stream().anyMatch(id -> id.toString().contains("Blackbird")));
+		assertArrayEquals(plain.writeValueAsBytes(response), blackbird.writeValueAsBytes(response));
+	}
+
+	public record Item(String name, LocalDateTime createdAt, String note) {
+	}
+}
@@ -0,0 +1,58 @@
+package com.omnipulse.webcore.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.common.dto.response.ErrorResponseTemplates;
+import com.omnipulse.common.enums.ApiResponseCode;
+import com.omnipulse.common.exception.ResourceNotFoundException;
+import com.omnipulse.webcore.config.JacksonConfig;
+import com.omnipulse.webcore.config.JacksonTuningProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseTemplatesTest {
+
+	// The mapper bean itself, so any change to JacksonConfig that the templates miss fails here
+	private final ObjectMapper objectMapper = new JacksonConfig().objectMapper(new JacksonTuningProperties());
+
+	@ParameterizedTest
+	@EnumSource(ApiResponseCode.class)
+	void render_ShouldMatchObjectMapperOutputForEveryCode(ApiResponseCode code) throws Exception {
+		assertSameAsMapper(code, "Tenant not found with id: 'acme'", LocalDateTime.of(2025, 3, 9, 14, 5, 7, 120_000_000));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"quote \" and \\ backslash", "line\nbreak\ttab\u0001", "ünïcödé ✓ 😀", "</script>", ""})
+	void render_ShouldEscapeMessagesLikeJackson(String message) throws Exception {
+		assertSameAsMapper(ApiResponseCode.BAD_REQUEST, message, LocalDateTime.of(2025, 1, 1, 0, 0));
+	}
+
+	@Test
+	void render_NullMessage_ShouldOmitMessageField() throws Exception {
+		assertSameAsMapper(ApiResponseCode.INTERNAL_ERROR, null, LocalDateTime.of(2025, 1, 1, 8, 30, 15, 1));
+	}
+
+	@Test
+	void businessExceptions_ShouldBeStacklessByDefault() {
+		ResourceNotFoundException ex = new ResourceNotFoundException("Tenant", "id", "acme");
+
+		assertEquals(0, ex.getStackTrace().length);
+		assertEquals("Tenant not found with id: 'acme'", ex.getMessage());
+	}
+
+	private void assertSameAsMapper(ApiResponseCode code, String message, LocalDateTime timestamp) throws Exception {
+		ApiResponse<Void> expected = ApiResponse.error(message, code.getCode());
+		expected.setTimestamp(timestamp);
+
+		String rendered = new String(ErrorResponseTemplates.render(code, message, timestamp), StandardCharsets.UTF_8);
+
+		assertEquals(objectMapper.writeValueAsString(expected), rendered);
+	}
+}
@@ -0,0 +1,78 @@
+package com.omnipulse.webcore.execution;
+
+import com.omnipulse.common.util.RequestContext;
+import com.omnipulse.common.util.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserContextTaskDecoratorTest {
+
+	private final UserContextTaskDecorator decorator = new UserContextTaskDecorator();
+
+	@BeforeEach
+	void setUp() {
+		UserContext.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		UserContext.clear();
+	}
+
+	@Test
+	void decorate_ShouldPropagateContextAndMdcToVirtualThread() throws Exception {
+		UserContext.set(RequestContext.of("user-1", "tenant-1", "corr-1"));
+		MDC.put("traceId", "trace-1");
+		AtomicReference<RequestContext> seenContext = new AtomicReference<>();
+		AtomicReference<String> seenTrace = new AtomicReference<>();
+
+		Runnable task = decorator.decorate(() -> {
+			seenContext.set(UserContext.current());
+			seenTrace.set(MDC.get("traceId"));
+		});
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			executor.submit(task).get();
+		}
+
+		assertEquals(RequestContext.of("user-1", "tenant-1", "corr-1"), seenContext.get());
+		assertEquals("trace-1", seenTrace.get());
+	}
+
+	@Test
+	void decorate_ShouldNotLeakContextIntoReusedWorker() throws Exception {
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			UserContext.set(RequestContext.of("user-1", "tenant-1", "corr-1"));
+			pool.submit(decorator.decorate(() -> assertEquals("tenant-1", UserContext.getTenantId()))).get();
+
+			UserContext.clear();
+			AtomicReference<RequestContext> leftover = new AtomicReference<>();
+			pool.submit(() -> leftover.set(UserContext.current())).get();
+
+			assertSame(RequestContext.EMPTY, leftover.get());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void decorate_ShouldRestoreCallerContextWhenRunInline() {
+		UserContext.set(RequestContext.of("submitter", "tenant-1", null));
+		Runnable task = decorator.decorate(() -> assertEquals("submitter", UserContext.getUserId()));
+
+		UserContext.set(RequestContext.of("caller", "tenant-2", null));
+		task.run();
+
+		assertEquals("caller", UserContext.getUserId());
+		assertEquals("tenant-2", MDC.get(UserContext.KEY_TENANT));
+	}
+}
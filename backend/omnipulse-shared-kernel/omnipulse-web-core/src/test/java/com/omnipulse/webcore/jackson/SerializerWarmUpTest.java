@@ -0,0 +1,93 @@
+package com.omnipulse.webcore.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.omnipulse.common.dto.response.ApiResponse;
+import com.omnipulse.webcore.config.JacksonConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializerWarmUpTest {
+
+	private final ObjectMapper objectMapper = JacksonConfig.configure(JsonMapper.builder());
+	private final SerializerWarmUp warmUp = new SerializerWarmUp(objectMapper, controllers());
+
+	@Test
+	void collectTypes_ShouldUnwrapControllerSignatures() {
+		Set<JavaType> responseTypes = new LinkedHashSet<>();
+		Set<JavaType> requestTypes = new LinkedHashSet<>();
+
+		warmUp.collectTypes(responseTypes, requestTypes);
+
+		assertTrue(responseTypes.contains(type(ApiResponse.class, ItemDto.class)));
+		assertTrue(responseTypes.contains(objectMapper.getTypeFactory().constructParametricType(ApiResponse.class,
+				objectMapper.getTypeFactory().constructCollectionType(List.class, ItemDto.class))));
+		assertEquals(Set.of(objectMapper.getTypeFactory().constructType(CreateItem.class)), requestTypes);
+	}
+
+	@Test
+	void afterWarmUp_FirstWriteShouldNotBuildSerializers() throws Exception {
+		warmUp.afterSingletonsInstantiated();
+		int cached = cachedSerializers();
+
+		objectMapper.writerFor(type(ApiResponse.class, ItemDto.class)).writeValueAsBytes(new ItemController().find().getBody());
+
+		assertEquals(cached, cachedSerializers());
+	}
+
+	private int cachedSerializers() {
+		return ((DefaultSerializerProvider) objectMapper.getSerializerProvider()).cachedSerializersCount();
+	}
+
+	private JavaType type(Class<?> raw, Class<?> parameter) {
+		return objectMapper.getTypeFactory().constructParametricType(raw, parameter);
+	}
+
+	private static DefaultListableBeanFactory controllers() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("itemController", new RootBeanDefinition(ItemController.class));
+		return beanFactory;
+	}
+
+	@RestController
+	static class ItemController {
+
+		@GetMapping("/items/one")
+		ResponseEntity<ApiResponse<ItemDto>> find() {
+			return ResponseEntity.ok(ApiResponse.success(
+					new ItemDto("first", LocalDateTime.of(2025, 1, 1, 12, 0), BigDecimal.ONE), "ok"));
+		}
+
+		@GetMapping("/items")
+		CompletableFuture<ApiResponse<List<ItemDto>>> list() {
+			return CompletableFuture.completedFuture(ApiResponse.success(List.of(), "ok"));
+		}
+
+		@PostMapping("/items")
+		void create(@RequestBody CreateItem item) {
+		}
+	}
+
+	record ItemDto(String name, LocalDateTime createdAt, BigDecimal amount) {
+	}
+
+	record CreateItem(String name) {
+	}
+}
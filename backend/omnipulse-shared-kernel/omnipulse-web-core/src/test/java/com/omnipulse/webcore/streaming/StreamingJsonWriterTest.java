@@ -0,0 +1,119 @@
+package com.omnipulse.webcore.streaming;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.omnipulse.webcore.config.JacksonConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingJsonWriterTest {
+
+	private final ObjectMapper objectMapper = JacksonConfig.configure(JsonMapper.builder());
+
+	@Test
+	void jsonArray_ShouldWriteApiResponseEnvelopeWithAllItems() throws IOException {
+		StreamingJsonWriter writer = new StreamingJsonWriter(objectMapper, StreamingScope.NONE, 10);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		writer.body(StreamFormat.JSON_ARRAY, () -> rows(25), "done").writeTo(out);
+
+		JsonNode json = objectMapper.readTree(out.toByteArray());
+		assertEquals("SUCCESS", json.get("status").asText());
+		assertEquals("done", json.get("message").asText());
+		assertTrue(json.has("timestamp"));
+		assertEquals(25, json.get("data").size());
+		assertEquals("2025-01-25", json.get("data").get(24).get("day").asText());
+	}
+
+	@Test
+	void ndjson_ShouldWriteOneDocumentPerLine() throws IOException {
+		StreamingJsonWriter writer = new StreamingJsonWriter(objectMapper, StreamingScope.NONE, 10);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		writer.body(StreamFormat.NDJSON, () -> rows(3), null).writeTo(out);
+
+		assertEquals("""
+				{"index":1,"day":"2025-01-01"}
+				{"index":2,"day":"2025-01-02"}
+				{"index":3,"day":"2025-01-03"}
+				""", out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void body_ShouldFlushEveryConfiguredNumberOfItems() throws IOException {
+		StreamingJsonWriter writer = new StreamingJsonWriter(objectMapper, StreamingScope.NONE, 10);
+		AtomicInteger flushes = new AtomicInteger();
+		OutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void flush() {
+				flushes.incrementAndGet();
+			}
+		};
+
+		writer.body(StreamFormat.NDJSON, () -> rows(35), null).writeTo(out);
+
+		// 3 periodic flushes plus the one from closing the generator
+		assertEquals(4, flushes.get());
+	}
+
+	@Test
+	void body_WhenClientDisconnects_ShouldCloseSourceAndRethrow() {
+		StreamingJsonWriter writer = new StreamingJsonWriter(objectMapper, StreamingScope.NONE, 1);
+		AtomicBoolean closed = new AtomicBoolean();
+		AtomicInteger pulled = new AtomicInteger();
+		OutputStream broken = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+
+		assertThrows(IOException.class, () -> writer.body(StreamFormat.NDJSON,
+				() -> rows(1_000).peek(row -> pulled.incrementAndGet()).onClose(() -> closed.set(true)), null)
+				.writeTo(broken));
+
+		assertTrue(closed.get());
+		assertEquals(1, pulled.get());
+	}
+
+	@Test
+	void body_ShouldRunInsideStreamingScope() throws IOException {
+		AtomicBoolean inScope = new AtomicBoolean();
+		AtomicBoolean sourceOpenedInScope = new AtomicBoolean();
+		StreamingScope scope = work -> {
+			inScope.set(true);
+			try {
+				work.run();
+			} finally {
+				inScope.set(false);
+			}
+		};
+		StreamingJsonWriter writer = new StreamingJsonWriter(objectMapper, scope, 10);
+
+		writer.body(StreamFormat.NDJSON, () -> {
+			sourceOpenedInScope.set(inScope.get());
+			return rows(1);
+		}, null).writeTo(new ByteArrayOutputStream());
+
+		assertTrue(sourceOpenedInScope.get());
+	}
+
+	private static Stream<Row> rows(int count) {
+		return IntStream.rangeClosed(1, count).mapToObj(i -> new Row(i, LocalDate.of(2025, 1, 1).plusDays(i - 1)));
+	}
+
+	record Row(int index, LocalDate day) {
+	}
+}